@@ -0,0 +1,46 @@
+package com.gov.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Redis 에 문자열로 저장된 잔액의 파싱/직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class BalanceParsingBenchmark {
+
+    @Param({"50000", "50000.00", "1000000000000"})
+    private String balanceText;
+
+    private final BigDecimal amount = new BigDecimal("1000");
+
+    @Benchmark
+    public BigDecimal parseBigDecimal() {
+        return new BigDecimal(balanceText);
+    }
+
+    @Benchmark
+    public String parseSubtractFormat() {
+        return new BigDecimal(balanceText).subtract(amount).toString();
+    }
+
+    @Benchmark
+    public String parseSubtractPlainFormat() {
+        return new BigDecimal(balanceText).subtract(amount).toPlainString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.gov.benchmarks;
+
+import java.io.File;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 스레드 수별 벤치마크 실행 후 JSON 결과 저장
+ * 결과 파일: {bench.output}/results-t{threads}.json (릴리스 간 비교용)
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = System.getProperty("bench.include", ".*Benchmark.*");
+        String threadList = System.getProperty("bench.threads", "1,4,16");
+        File outputDir = new File(System.getProperty("bench.output", "build/jmh-results"));
+        outputDir.mkdirs();
+
+        for (String token : threadList.split(",")) {
+            int threads = Integer.parseInt(token.trim());
+            File resultFile = new File(outputDir, "results-t" + threads + ".json");
+
+            Options options = new OptionsBuilder()
+                .include(include)
+                .threads(threads)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getPath())
+                .build();
+
+            new Runner(options).run();
+        }
+    }
+}
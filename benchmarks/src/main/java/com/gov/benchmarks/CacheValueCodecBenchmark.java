@@ -0,0 +1,105 @@
+package com.gov.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gov.core.redis.codec.BinaryRedisSerializer;
+import com.gov.payment.dto.PaymentResDto;
+import com.gov.payment.entity.PaymentStatus;
+import com.gov.payment.redis.PaymentResCodec;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/**
+ * 캐시 값 직렬화 비용 - 바이너리 코덱 vs JSON (결제 응답 기준)
+ * 인코딩 크기는 직렬화 벤치마크의 보조 카운터(encodedBytes / encodes)로 JSON 결과에 함께 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class CacheValueCodecBenchmark {
+
+    private final PaymentResDto payment = PaymentResDto.builder()
+        .paymentId("PAY_20250125143022_A1B2C3D4")
+        .userId("USER_000123")
+        .merchantId("MERCHANT_001")
+        .couponId("COUPON_000123")
+        .amount(new BigDecimal("15000"))
+        .status(PaymentStatus.COMPLETED)
+        .paymentDate(LocalDateTime.of(2025, 1, 25, 14, 30, 22))
+        .processInstanceId("7f3c2a1e-5b9d-11ef-9c2a-0242ac120002")
+        .pgTransactionId("PG_20250125143023_9F8E7D")
+        .build();
+
+    private BinaryRedisSerializer<PaymentResDto> binarySerializer;
+    private Jackson2JsonRedisSerializer<PaymentResDto> jsonSerializer;
+    private byte[] binaryBytes;
+    private byte[] jsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        binarySerializer = new BinaryRedisSerializer<>(new PaymentResCodec(), 512);
+        jsonSerializer = new Jackson2JsonRedisSerializer<>(new ObjectMapper().findAndRegisterModules(),
+            PaymentResDto.class);
+        binaryBytes = binarySerializer.serialize(payment);
+        jsonBytes = jsonSerializer.serialize(payment);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize(EncodedSize size) {
+        return size.record(binarySerializer.serialize(payment));
+    }
+
+    @Benchmark
+    public PaymentResDto binaryDeserialize() {
+        return binarySerializer.deserialize(binaryBytes);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize(EncodedSize size) {
+        return size.record(jsonSerializer.serialize(payment));
+    }
+
+    @Benchmark
+    public PaymentResDto jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    /**
+     * 인코딩 크기 보조 카운터 - 스레드/반복 합산 방식과 무관하게 encodedBytes / encodes 가 값 1건의 크기
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long encodedBytes;
+        public long encodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+            encodes = 0;
+        }
+
+        byte[] record(byte[] bytes) {
+            encodedBytes += bytes.length;
+            encodes++;
+            return bytes;
+        }
+    }
+}
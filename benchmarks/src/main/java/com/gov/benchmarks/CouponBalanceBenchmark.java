@@ -0,0 +1,88 @@
+package com.gov.benchmarks;
+
+import com.gov.benchmarks.support.BenchmarkRedis;
+import com.gov.core.redis.RedisKeySpace;
+import com.gov.payment.service.CouponBalanceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 쿠폰 잔액 예약/복원 (분산 락 + Redis 왕복)
+ * couponCount=1 은 단일 쿠폰 경합, 그 이상은 다중 키 분산 시나리오
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class CouponBalanceBenchmark {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000000");
+    private static final BigDecimal AMOUNT = new BigDecimal("1000");
+
+    @Param({"1", "128"})
+    private int couponCount;
+
+    private BenchmarkRedis redis;
+    private CouponBalanceService couponBalanceService;
+    private String[] couponIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redis = BenchmarkRedis.start();
+        couponBalanceService = new CouponBalanceService(redis.redisTemplate(), redis.redissonClient(),
+            new SimpleMeterRegistry());
+
+        couponIds = new String[couponCount];
+        for (int i = 0; i < couponCount; i++) {
+            couponIds[i] = "BENCH_COUPON_" + i;
+            redis.redisTemplate().opsForValue().set(RedisKeySpace.COUPON_BALANCE.key(couponIds[i]), INITIAL_BALANCE.toString());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        redis.close();
+    }
+
+    @Benchmark
+    public boolean reserveAmount() {
+        return couponBalanceService.reserveAmount(nextCouponId(), AMOUNT);
+    }
+
+    @Benchmark
+    public void restoreAmount() {
+        couponBalanceService.restoreAmount(nextCouponId(), AMOUNT);
+    }
+
+    @Benchmark
+    public boolean reserveThenRestore() {
+        String couponId = nextCouponId();
+        boolean reserved = couponBalanceService.reserveAmount(couponId, AMOUNT);
+        if (reserved) {
+            couponBalanceService.restoreAmount(couponId, AMOUNT);
+        }
+        return reserved;
+    }
+
+    private String nextCouponId() {
+        return couponCount == 1 ? couponIds[0] : couponIds[ThreadLocalRandom.current().nextInt(couponCount)];
+    }
+}
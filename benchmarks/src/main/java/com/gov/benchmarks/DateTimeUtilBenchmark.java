@@ -0,0 +1,49 @@
+package com.gov.benchmarks;
+
+import com.gov.payment.utils.DateTimeUtil;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 날짜 포맷/파싱 비용
+ * parseCompact 는 다중 포맷 순차 시도 시 앞선 포맷 실패 비용을 함께 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class DateTimeUtilBenchmark {
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2025, 1, 25, 14, 30, 22);
+
+    @Benchmark
+    public String formatForDisplay() {
+        return DateTimeUtil.formatForDisplay(dateTime);
+    }
+
+    @Benchmark
+    public String formatCompact() {
+        return DateTimeUtil.formatCompact(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDisplay() {
+        return DateTimeUtil.parseDateTime("2025-01-25 14:30:22");
+    }
+
+    @Benchmark
+    public LocalDateTime parseCompact() {
+        return DateTimeUtil.parseDateTime("20250125143022");
+    }
+}
@@ -0,0 +1,42 @@
+package com.gov.benchmarks;
+
+import com.gov.payment.utils.PaymentIdGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 결제 ID 생성 방식별 비용 (UUID / 시퀀스 / 사용자 ID 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PaymentIdGeneratorBenchmark {
+
+    private final PaymentIdGenerator paymentIdGenerator = new PaymentIdGenerator();
+
+    @Benchmark
+    public String generate() {
+        return paymentIdGenerator.generate();
+    }
+
+    @Benchmark
+    public String generateWithSequence() {
+        return paymentIdGenerator.generateWithSequence();
+    }
+
+    @Benchmark
+    public String generateWithUserId() {
+        return paymentIdGenerator.generateWithUserId("user-001");
+    }
+}
@@ -0,0 +1,56 @@
+package com.gov.benchmarks;
+
+import com.gov.core.redis.RedisKeySpace;
+import com.gov.payment.utils.RedisKeyGenerator;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Redis 키 생성 비용 (String 키 / 직렬화된 byte[] 키)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class RedisKeyGeneratorBenchmark {
+
+    private final RedisKeyGenerator redisKeyGenerator = new RedisKeyGenerator();
+    private final LocalDate date = LocalDate.of(2025, 1, 25);
+
+    @Benchmark
+    public String couponBalanceKey() {
+        return redisKeyGenerator.couponBalanceKey("COUPON_000123");
+    }
+
+    @Benchmark
+    public String paymentCacheKey() {
+        return redisKeyGenerator.paymentCacheKey("PAY_20250125143022_A1B2C3D4");
+    }
+
+    @Benchmark
+    public String dailyStatsByMerchantKey() {
+        return redisKeyGenerator.dailyStatsByMerchantKey(date, "MERCHANT_001");
+    }
+
+    @Benchmark
+    public byte[] couponBalanceKeyBytes() {
+        return RedisKeySpace.COUPON_BALANCE.keyBytes("COUPON_000123");
+    }
+
+    @Benchmark
+    public byte[] couponBalanceKeyStringEncoded() {
+        return redisKeyGenerator.couponBalanceKey("COUPON_000123").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package com.gov.benchmarks.support;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+/**
+ * 벤치마크용 Redis
+ * bench.redis.host 가 지정되지 않으면 임의 포트로 내장 Redis 서버를 띄움
+ */
+public class BenchmarkRedis implements AutoCloseable {
+
+    private final RedisServer embeddedServer;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonClient redissonClient;
+
+    private BenchmarkRedis(String host, int port, RedisServer embeddedServer) {
+        this.embeddedServer = embeddedServer;
+
+        this.connectionFactory = new LettuceConnectionFactory(host, port);
+        this.connectionFactory.afterPropertiesSet();
+
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(new StringRedisSerializer());
+        this.redisTemplate.setValueSerializer(new StringRedisSerializer());
+        this.redisTemplate.afterPropertiesSet();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + host + ":" + port);
+        this.redissonClient = Redisson.create(config);
+    }
+
+    public static BenchmarkRedis start() throws IOException {
+        String host = System.getProperty("bench.redis.host");
+        if (host != null && !host.isBlank()) {
+            int port = Integer.getInteger("bench.redis.port", 6379);
+            return new BenchmarkRedis(host, port, null);
+        }
+
+        int port = freePort();
+        RedisServer server = new RedisServer(port);
+        server.start();
+        return new BenchmarkRedis("localhost", port, server);
+    }
+
+    public RedisTemplate<String, String> redisTemplate() {
+        return redisTemplate;
+    }
+
+    public RedissonClient redissonClient() {
+        return redissonClient;
+    }
+
+    @Override
+    public void close() throws IOException {
+        redissonClient.shutdown();
+        connectionFactory.destroy();
+        if (embeddedServer != null) {
+            embeddedServer.stop();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
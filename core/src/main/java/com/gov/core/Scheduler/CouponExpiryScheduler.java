@@ -1,7 +1,13 @@
 package com.gov.core.Scheduler;
 
+import com.gov.core.batch.BatchLeaseService;
+import com.gov.core.batch.JobLease;
 import com.gov.core.dto.CouponExpiryResult;
 import com.gov.core.service.CouponExpiryService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,17 +18,33 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CouponExpiryScheduler {
 
+    private static final String JOB_NAME = "coupon-expiry";
+    // 실행 중에는 holdWhile 이 주기적으로 연장하므로 노드 장애 시 10분 안에 다른 노드가 이어받을 수 있음
+    private static final Duration LEASE_TTL = Duration.ofMinutes(10);
+    private static final ZoneId BATCH_ZONE = ZoneId.of("Asia/Seoul");
+
     private final CouponExpiryService couponExpiryService;
+    private final BatchLeaseService batchLeaseService;
 
     /**
      * 매일 새벽 2시에 만료 쿠폰 처리
+     * 모든 노드가 깨어나지만 날짜별 리스를 획득한 한 노드만 실행
+     * 리스는 실행 중 연장하고 종료 시 반납 (반납 후 늦게 깨어난 노드가 재실행해도 인덱스 기반 처리라 대상 없음)
      */
-    @Scheduled(cron = "0 0 2 * * *", zone = "Asia/Seoul", fixedDelay = Long.MAX_VALUE)
+    @Scheduled(cron = "0 0 2 * * *", zone = "Asia/Seoul")
     public void processExpiredCoupons() {
+        String tick = LocalDate.now(BATCH_ZONE).toString();
+        Optional<JobLease> lease = batchLeaseService.tryAcquire(JOB_NAME, tick, LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("정기 쿠폰 만료 처리 생략 - 다른 노드에서 실행: tick={}", tick);
+            return;
+        }
+
         log.info("정기 쿠폰 만료 처리 배치 시작");
 
         try {
-            CouponExpiryResult result = couponExpiryService.processExpiredCoupons();
+            CouponExpiryResult result = batchLeaseService.holdWhile(lease.get(), LEASE_TTL,
+                couponExpiryService::processExpiredCoupons);
 
             if (result.hasProcessedItems()) {
                 log.info("정기 쿠폰 만료 처리 완료: {}", result.getSummary());
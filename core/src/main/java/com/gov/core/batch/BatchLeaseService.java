@@ -0,0 +1,127 @@
+package com.gov.core.batch;
+
+import com.gov.core.redis.RedisKeySpace;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 기반 배치 작업 리스 코디네이터
+ * 여러 노드가 같은 cron 시각에 깨어나도 (작업, 스케줄 회차)마다 하나의 노드만 실행하도록 선출하고,
+ * 샤드 단위 리스로 분할 가능한 작업은 노드 간에 나누어 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchLeaseService {
+
+    /**
+     * 현재 노드 식별자 (pid@hostname)
+     */
+    public static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+        Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 장시간 작업 리스 자동 연장용 (데몬 스레드 1개)
+    private final ScheduledExecutorService renewScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "batch-lease-renew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 리스 획득 시도 (SET NX PX)
+     *
+     * @param jobName 작업 이름 (샤드 단위 리스는 작업명에 샤드 번호 포함)
+     * @param tick    스케줄 회차 (예: 일 배치는 날짜, 시간 배치는 시각)
+     * @param ttl     리스 유지 시간 - 작업 최대 소요 시간보다 길게 설정
+     */
+    public Optional<JobLease> tryAcquire(String jobName, String tick, Duration ttl) {
+        String leaseKey = RedisKeySpace.BATCH_LEASE.key(jobName, tick);
+        String token = NODE_ID + ":" + UUID.randomUUID();
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, token, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("배치 리스 획득 실패 (다른 노드 실행 중): job={}, tick={}, holder={}",
+                jobName, tick, redisTemplate.opsForValue().get(leaseKey));
+            return Optional.empty();
+        }
+
+        log.info("배치 리스 획득: job={}, tick={}, owner={}", jobName, tick, NODE_ID);
+        return Optional.of(new JobLease(jobName, tick, leaseKey, token, NODE_ID));
+    }
+
+    /**
+     * 리스 연장 (장시간 작업용) - 소유자가 일치할 때만 연장
+     */
+    public boolean renew(JobLease lease, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lease.leaseKey()),
+            lease.token(), String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed > 0;
+    }
+
+    /**
+     * 리스를 유지한 채 작업 실행 - TTL 의 1/3 주기로 연장하고, 종료 시(예외 포함) 연장 중단 후 반납
+     * TTL 은 연장 주기 사이의 정지(GC, 네트워크 지연)만 견디면 되므로 작업 최대 소요 시간보다 짧게 잡을 수 있음
+     */
+    public <T> T holdWhile(JobLease lease, Duration ttl, Supplier<T> work) {
+        long periodMillis = Math.max(1000, ttl.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewScheduler.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(lease, ttl)) {
+                    log.warn("배치 리스 연장 실패 (이미 만료 또는 다른 소유자): job={}, tick={}",
+                        lease.jobName(), lease.tick());
+                }
+            } catch (Exception e) {
+                log.warn("배치 리스 연장 오류: job={}, error={}", lease.jobName(), e.getMessage());
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            return work.get();
+        } finally {
+            renewal.cancel(false);
+            release(lease);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewScheduler.shutdownNow();
+    }
+
+    /**
+     * 리스 반납 - 소유자가 일치할 때만 삭제
+     * 회차 단위 리스는 반납하지 않고 TTL까지 유지하면 같은 회차 재실행을 막을 수 있음
+     */
+    public void release(JobLease lease) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(lease.leaseKey()), lease.token());
+        if (released == null || released == 0) {
+            log.warn("배치 리스 반납 실패 (이미 만료 또는 다른 소유자): job={}, tick={}",
+                lease.jobName(), lease.tick());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.gov.core.batch;
+
+/**
+ * 배치 작업 실행 리스 (Redis 키 + 소유 토큰)
+ */
+public record JobLease(
+    String jobName,
+    String tick,
+    String leaseKey,
+    String token,
+    String owner
+) {
+}
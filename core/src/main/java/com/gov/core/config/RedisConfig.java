@@ -1,5 +1,8 @@
 package com.gov.core.config;
 
+import com.gov.core.dto.MerchantSnapshot;
+import com.gov.core.redis.codec.BinaryRedisTemplates;
+import com.gov.core.redis.codec.MerchantSnapshotCodec;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -10,6 +13,11 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * core 단독 실행용 Redis 클라이언트 구성
+ * 결제 모듈과 함께 기동하는 구성(부하 테스트 등)에서는 결제 모듈의 계측된 RedisConfig 를 쓰도록 이 클래스를 스캔에서 제외한다
+ * 모듈 공용 빈(redisBulkExecutor)은 RedisBulkConfig 에 둔다
+ */
 @Configuration
 public class RedisConfig {
 
@@ -19,6 +27,9 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int redisPort;
 
+    @Value("${redis-codec.compression-threshold:512}")
+    private int compressionThreshold;
+
     @Bean
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
@@ -30,6 +41,15 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 가맹점 스냅샷 캐시 (merchant:cache:{merchantId}) - 바이너리 코덱
+     */
+    @Bean
+    public RedisTemplate<String, MerchantSnapshot> merchantSnapshotRedisTemplate(
+        RedisConnectionFactory connectionFactory) {
+        return BinaryRedisTemplates.create(connectionFactory, new MerchantSnapshotCodec(), compressionThreshold);
+    }
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
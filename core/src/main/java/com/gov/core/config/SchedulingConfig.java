@@ -0,0 +1,13 @@
+package com.gov.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * core 의 주기 작업(ReplicaLagMonitor 지연 측정, 쿠폰 만료 배치) 활성화
+ * core 를 포함하는 모든 애플리케이션에서 동작해야 하므로 개별 모듈 설정에 의존하지 않는다
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
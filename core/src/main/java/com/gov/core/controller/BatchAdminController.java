@@ -1,6 +1,7 @@
 package com.gov.core.controller;
 
 import com.gov.core.dto.CouponExpiryResult;
+import com.gov.core.service.CouponExpiryScheduleService;
 import com.gov.core.service.CouponExpiryService;
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -19,7 +20,10 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class BatchAdminController {
 
+    private static final int EXPIRY_SCHEDULE_REBUILD_PAGE_SIZE = 1000;
+
     private final CouponExpiryService couponExpiryService;
+    private final CouponExpiryScheduleService couponExpiryScheduleService;
 
     /**
      * 쿠폰 만료 배치 수동 실행
@@ -49,6 +53,23 @@ public class BatchAdminController {
         }
     }
 
+    /**
+     * 쿠폰 만료 스케줄 인덱스 재구성 (도입 시 백필 / 누락 보정)
+     */
+    @PostMapping("/coupons/expiry-schedule/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildExpirySchedule() {
+        log.info("쿠폰 만료 스케줄 인덱스 재구성 요청");
+
+        int scheduled = couponExpiryScheduleService.rebuild(EXPIRY_SCHEDULE_REBUILD_PAGE_SIZE);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("scheduled", scheduled);
+        response.put("indexSize", couponExpiryScheduleService.size());
+        response.put("timeStamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 배치 작업 상태 조회
      */
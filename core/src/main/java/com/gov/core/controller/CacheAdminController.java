@@ -0,0 +1,76 @@
+package com.gov.core.controller;
+
+import com.gov.core.service.ReferenceDataCacheService;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@Slf4j
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    /**
+     * 참조 데이터 캐시 통계 조회 (크기, 적중률)
+     */
+    @GetMapping("/reference")
+    public ResponseEntity<Map<String, Object>> getReferenceCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("statistics", referenceDataCacheService.getStatistics());
+        response.put("timeStamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 참조 데이터 캐시 재적재
+     */
+    @PostMapping("/reference/preload")
+    public ResponseEntity<Map<String, Object>> preloadReferenceCache() {
+        log.info("참조 데이터 캐시 재적재 요청");
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("loaded", referenceDataCacheService.preloadAll());
+        response.put("timeStamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 가맹점 캐시 무효화 (가맹점 정보 변경 시 호출)
+     */
+    @DeleteMapping("/reference/merchants/{merchantId}")
+    public ResponseEntity<Void> invalidateMerchant(@PathVariable String merchantId) {
+        referenceDataCacheService.invalidateMerchant(merchantId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 사용자 캐시 무효화 (사용자 정보 변경 시 호출)
+     */
+    @DeleteMapping("/reference/users/{userId}")
+    public ResponseEntity<Void> invalidateUser(@PathVariable String userId) {
+        referenceDataCacheService.invalidateUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 참조 데이터 캐시 전체 무효화
+     */
+    @DeleteMapping("/reference")
+    public ResponseEntity<Void> invalidateAll() {
+        referenceDataCacheService.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.gov.core.controller;
+
+import com.gov.core.jfr.FlightRecorderService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/admin/jfr")
+@Slf4j
+@RequiredArgsConstructor
+public class FlightRecorderAdminController {
+
+    private final FlightRecorderService flightRecorderService;
+
+    /**
+     * JFR 기록 시작 (예: settings=profile, duration=PT5M)
+     */
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+        @RequestParam(defaultValue = "profile") String settings,
+        @RequestParam(defaultValue = "PT5M") Duration duration) {
+        log.info("JFR 기록 시작 요청: settings={}, duration={}", settings, duration);
+        return ResponseEntity.ok(withTimeStamp(flightRecorderService.start(settings, duration)));
+    }
+
+    /**
+     * 현재까지의 기록을 .jfr 파일로 내려받기 (전송 후 서버의 덤프 파일 삭제)
+     */
+    @PostMapping("/dump")
+    public ResponseEntity<StreamingResponseBody> dump() {
+        Path file = flightRecorderService.dump();
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            flightRecorderService.deleteDump(file);
+            throw new UncheckedIOException("JFR 덤프 파일 조회 실패", e);
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                flightRecorderService.deleteDump(file);
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .contentLength(size)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+            .body(body);
+    }
+
+    /**
+     * JFR 기록 중지
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop() {
+        return ResponseEntity.ok(withTimeStamp(flightRecorderService.stop()));
+    }
+
+    /**
+     * JFR 기록 상태 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(withTimeStamp(flightRecorderService.getStatus()));
+    }
+
+    private Map<String, Object> withTimeStamp(Map<String, Object> status) {
+        Map<String, Object> response = new HashMap<>(status);
+        response.put("timeStamp", LocalDateTime.now().toString());
+        return response;
+    }
+}
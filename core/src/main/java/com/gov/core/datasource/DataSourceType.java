@@ -0,0 +1,9 @@
+package com.gov.core.datasource;
+
+/**
+ * 라우팅 대상 데이터소스 구분
+ */
+public enum DataSourceType {
+    PRIMARY,  // 쓰기 및 일관성이 필요한 읽기
+    REPLICA   // readOnly 트랜잭션 전용
+}
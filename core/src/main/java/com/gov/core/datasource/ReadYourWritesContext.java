@@ -0,0 +1,81 @@
+package com.gov.core.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 최근 쓰기 시각 추적
+ * 방금 쓰기를 수행한 세션의 읽기는 복제 지연 동안 Primary 로 보낸다 (read-your-writes)
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<String> SESSION_KEY = new ThreadLocal<>();
+    private static final ThreadLocal<Long> THREAD_LAST_WRITE = new ThreadLocal<>();
+
+    // 세션키 -> 마지막 쓰기 시각 (epoch millis)
+    private static final Map<String, Long> LAST_WRITE_BY_SESSION = new ConcurrentHashMap<>();
+
+    private static final int MAX_TRACKED_SESSIONS = 100_000;
+
+    private ReadYourWritesContext() {
+        // Utility class
+    }
+
+    public static void bindSession(String sessionKey) {
+        SESSION_KEY.set(sessionKey);
+    }
+
+    public static void clear() {
+        SESSION_KEY.remove();
+        THREAD_LAST_WRITE.remove();
+    }
+
+    /**
+     * 현재 세션(또는 스레드)의 쓰기 기록
+     */
+    public static void markWrite() {
+        long now = System.currentTimeMillis();
+        THREAD_LAST_WRITE.set(now);
+
+        String sessionKey = SESSION_KEY.get();
+        if (sessionKey != null && LAST_WRITE_BY_SESSION.size() < MAX_TRACKED_SESSIONS) {
+            LAST_WRITE_BY_SESSION.put(sessionKey, now);
+        } else if (sessionKey != null) {
+            LAST_WRITE_BY_SESSION.computeIfPresent(sessionKey, (key, value) -> now);
+        }
+    }
+
+    /**
+     * 주어진 구간 안에 현재 세션의 쓰기가 있었는지 확인
+     */
+    public static boolean wroteWithin(Duration window) {
+        long threshold = System.currentTimeMillis() - window.toMillis();
+
+        Long threadLastWrite = THREAD_LAST_WRITE.get();
+        if (threadLastWrite != null && threadLastWrite >= threshold) {
+            return true;
+        }
+
+        String sessionKey = SESSION_KEY.get();
+        if (sessionKey == null) {
+            return false;
+        }
+        Long sessionLastWrite = LAST_WRITE_BY_SESSION.get(sessionKey);
+        return sessionLastWrite != null && sessionLastWrite >= threshold;
+    }
+
+    /**
+     * 구간이 지난 세션 기록 정리
+     */
+    public static int purgeOlderThan(Duration window) {
+        long threshold = System.currentTimeMillis() - window.toMillis();
+        int before = LAST_WRITE_BY_SESSION.size();
+        LAST_WRITE_BY_SESSION.values().removeIf(lastWrite -> lastWrite < threshold);
+        return before - LAST_WRITE_BY_SESSION.size();
+    }
+
+    public static int trackedSessionCount() {
+        return LAST_WRITE_BY_SESSION.size();
+    }
+}
@@ -0,0 +1,44 @@
+package com.gov.core.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 세션키를 바인딩하여 read-your-writes 라우팅에 사용
+ * 세션키 우선순위: X-Session-Id 헤더 → HTTP 세션 ID → userId 파라미터
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String SESSION_HEADER = "X-Session-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        try {
+            ReadYourWritesContext.bindSession(resolveSessionKey(request));
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private String resolveSessionKey(HttpServletRequest request) {
+        String header = request.getHeader(SESSION_HEADER);
+        if (header != null && !header.isBlank()) {
+            return header;
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return session.getId();
+        }
+
+        String userId = request.getParameter("userId");
+        return userId != null && !userId.isBlank() ? "user:" + userId : null;
+    }
+}
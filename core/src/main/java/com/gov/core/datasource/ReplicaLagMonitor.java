@@ -0,0 +1,95 @@
+package com.gov.core.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Replica 복제 지연 모니터
+ * 주기적으로 lag 쿼리를 실행하여 Replica 사용 가능 여부를 판단한다
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration readYourWritesWindow;
+
+    private volatile long lagMillis = Long.MAX_VALUE;
+    private volatile boolean available = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery,
+        Duration maxLag, Duration readYourWritesWindow) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    /**
+     * 복제 지연 측정
+     * MySQL: SHOW REPLICA STATUS 의 Seconds_Behind_Source (행이 없으면 복제 미구성으로 보고 0)
+     * H2 등 로컬 대체 DB: lag-query 로 SELECT 0 AS Seconds_Behind_Source 사용
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval:1000}")
+    public void checkLag() {
+        try {
+            List<Long> lags = replicaJdbcTemplate.query(lagQuery, (rs, rowNum) -> {
+                Object value = rs.getObject("Seconds_Behind_Source");
+                return value != null ? ((Number) value).longValue() : null;
+            });
+
+            if (lags.isEmpty()) {
+                updateLag(0L);
+            } else if (lags.get(0) == null) {
+                // 복제 스레드 중단 상태
+                markUnavailable("복제 스레드 중단");
+            } else {
+                updateLag(lags.get(0) * 1000L);
+            }
+        } catch (Exception e) {
+            markUnavailable(e.getMessage());
+        }
+
+        ReadYourWritesContext.purgeOlderThan(effectiveReadYourWritesWindow());
+    }
+
+    private void updateLag(long millis) {
+        boolean wasAvailable = available;
+        lagMillis = millis;
+        available = millis <= maxLag.toMillis();
+
+        if (wasAvailable != available) {
+            log.warn("Replica 라우팅 상태 변경: available={}, lagMillis={}", available, millis);
+        }
+    }
+
+    private void markUnavailable(String reason) {
+        if (available) {
+            log.warn("Replica 사용 불가, Primary 로 전환: reason={}", reason);
+        }
+        available = false;
+        lagMillis = Long.MAX_VALUE;
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * 쓰기 직후 Primary 고정 구간 (설정값과 현재 지연 중 큰 값)
+     */
+    public Duration effectiveReadYourWritesWindow() {
+        long lag = lagMillis == Long.MAX_VALUE ? 0 : lagMillis;
+        return Duration.ofMillis(Math.max(readYourWritesWindow.toMillis(), lag));
+    }
+}
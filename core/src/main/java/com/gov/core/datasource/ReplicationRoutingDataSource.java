@@ -0,0 +1,43 @@
+package com.gov.core.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 Replica, 그 외는 Primary 로 라우팅
+ * LazyConnectionDataSourceProxy 로 감싸서 트랜잭션 속성이 확정된 뒤 커넥션을 얻도록 해야 한다
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWrite();
+            }
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!lagMonitor.isReplicaAvailable()) {
+            return DataSourceType.PRIMARY;
+        }
+
+        // 방금 쓰기를 수행한 세션은 복제 반영 전까지 Primary 에서 읽는다
+        if (ReadYourWritesContext.wroteWithin(lagMonitor.effectiveReadYourWritesWindow())) {
+            log.debug("read-your-writes 구간, Primary 로 라우팅");
+            return DataSourceType.PRIMARY;
+        }
+
+        return DataSourceType.REPLICA;
+    }
+}
@@ -0,0 +1,20 @@
+package com.gov.core.dto;
+
+import com.gov.core.entity.Merchant;
+import com.gov.core.entity.Merchant.MerchantCategory;
+
+/**
+ * 가맹점 캐시 스냅샷 (merchant:cache:{merchantId})
+ * JPA 엔티티 대신 캐시에 필요한 필드만 보관
+ */
+public record MerchantSnapshot(
+    String merchantId,
+    String merchantName,
+    MerchantCategory category
+) {
+
+    public static MerchantSnapshot from(Merchant merchant) {
+        return new MerchantSnapshot(merchant.getMerchantId(), merchant.getMerchantName(), merchant.getCategory());
+    }
+
+}
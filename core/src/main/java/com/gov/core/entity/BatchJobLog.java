@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -57,6 +58,9 @@ public class BatchJobLog {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column(name = "owner", length = 100)
+    private String owner;
+
     @Convert(converter = JpaConverterJson.class)
     @Column(name = "parameters", columnDefinition = "JSON")
     private Map<String, Object> parameters;
@@ -64,12 +68,13 @@ public class BatchJobLog {
     @Builder
     public BatchJobLog(String logId, String jobName, BatchJobType jobType,
         BatchJobStatus status, LocalDateTime startTime,
-        Map<String, Object> parameters) {
+        String owner, Map<String, Object> parameters) {
         this.logId = logId;
         this.jobName = jobName;
         this.jobType = jobType;
         this.status = status;
         this.startTime = startTime;
+        this.owner = owner;
         this.parameters = parameters;
     }
 
@@ -90,6 +95,37 @@ public class BatchJobLog {
         this.errorCount = errorCount;
     }
 
+    /**
+     * 진행 상황 기록 (청크 단위 체크포인트)
+     */
+    public void updateProgress(int processedCount, int successCount, int errorCount,
+        Map<String, Object> checkpoint) {
+        if(this.status != BatchJobStatus.RUNNING) {
+            throw new IllegalStateException("실행 중인 작업만 진행 상황을 기록할 수 있습니다: " + this.status);
+        }
+        this.processedCount = processedCount;
+        this.successCount = successCount;
+        this.errorCount = errorCount;
+        if(checkpoint != null) {
+            Map<String, Object> merged = this.parameters != null ? new HashMap<>(this.parameters) : new HashMap<>();
+            merged.putAll(checkpoint);
+            this.parameters = merged;
+        }
+    }
+
+    /**
+     * 중단/실패한 작업 재개
+     */
+    public void resume(String owner) {
+        if(this.status == BatchJobStatus.COMPLETED) {
+            throw new IllegalStateException("완료된 작업은 재개할 수 없습니다.");
+        }
+        this.status = BatchJobStatus.RUNNING;
+        this.owner = owner;
+        this.endTime = null;
+        this.errorMessage = null;
+    }
+
     public void fail(String errorMessage) {
         if(this.status != BatchJobStatus.RUNNING) {
             throw new IllegalStateException("현재 상태는 {} 입니다. 실패 처리를 할 수 없습니다." + this.status);
@@ -1,5 +1,6 @@
 package com.gov.core.entity;
 
+import com.gov.core.service.CouponExpiryIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -7,12 +8,18 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,10 +28,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons",
+    indexes = @Index(name = "idx_coupon_status_expiry", columnList = "status, expiry_date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CouponExpiryIndexListener.class})
 @Slf4j
 public class Coupon extends BaseTimeEntity {
 
@@ -49,6 +57,11 @@ public class Coupon extends BaseTimeEntity {
     @Column(name = "status", length = 20)
     private CouponStatus status = CouponStatus.ACTIVE;
 
+    // 만료 스케줄 인덱스에 반영된 만료일 (변경 감지용)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private LocalDate indexedExpiryDate;
+
     private static final int DEFAULT_EXPIRY_DAYS = 90;
 
     @Builder
@@ -110,6 +123,20 @@ public class Coupon extends BaseTimeEntity {
             couponId, reason, originalAmount, expiredAmount);
     }
 
+    /**
+     * 마지막 로드/저장 이후 만료일 변경 여부 (엔티티 리스너가 먼저 호출된 뒤 스냅샷 갱신)
+     */
+    public boolean isExpiryDateChanged() {
+        return !Objects.equals(expiryDate, indexedExpiryDate);
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void captureIndexedExpiryDate() {
+        this.indexedExpiryDate = expiryDate;
+    }
+
     /**
      * 만료 예정 쿠폰 확인 (D - 7)
      */
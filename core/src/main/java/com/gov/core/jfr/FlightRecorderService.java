@@ -0,0 +1,157 @@
+package com.gov.core.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 운영 중 JFR 기록 시작/덤프/중지 (관리용)
+ * 비즈니스 이벤트(com.gov.*)는 기본 활성 상태이므로 JDK 설정(default/profile)과 함께 기록된다
+ * 한 번에 하나의 기록만 유지하며, 최대 기록 시간을 넘으면 JVM이 자동 종료
+ * 덤프 파일은 내려받은 뒤 삭제하고, 내려받기가 중단되어 남은 파일은 최근 jfr.max-dump-files 개만 유지
+ */
+@Slf4j
+@Service
+public class FlightRecorderService {
+
+    private static final String RECORDING_NAME = "gov-admin";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+    private final Duration maxDuration;
+    private final int maxDumpFiles;
+
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${jfr.dump-directory:${java.io.tmpdir}/jfr}") String dumpDirectory,
+        @Value("${jfr.max-duration:30m}") Duration maxDuration,
+        @Value("${jfr.max-dump-files:3}") int maxDumpFiles) {
+        this.dumpDirectory = Paths.get(dumpDirectory);
+        this.maxDuration = maxDuration;
+        this.maxDumpFiles = Math.max(1, maxDumpFiles);
+    }
+
+    /**
+     * 기록 시작
+     *
+     * @param settings JDK 설정 이름 (default: 상시 수준 부하, profile: 할당/락 샘플링 강화)
+     * @param duration 기록 시간 (최대 jfr.max-duration)
+     */
+    public synchronized Map<String, Object> start(String settings, Duration duration) {
+        if (isRunning()) {
+            throw new IllegalStateException("이미 실행 중인 JFR 기록이 있습니다");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("알 수 없는 JFR 설정입니다: " + settings);
+        }
+
+        Duration effective = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        Recording newRecording = new Recording(configuration);
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setDuration(effective);
+        newRecording.start();
+
+        if (recording != null) {
+            recording.close();
+        }
+        recording = newRecording;
+        log.info("JFR 기록 시작: settings={}, duration={}", settings, effective);
+        return getStatus();
+    }
+
+    /**
+     * 현재까지의 기록을 파일로 저장 (기록은 계속 진행)
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new IllegalStateException("덤프할 JFR 기록이 없습니다");
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            pruneDumps(maxDumpFiles - 1);
+            Path file = dumpDirectory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+            recording.dump(file);
+            log.info("JFR 기록 덤프: file={}", file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 기록 덤프 실패", e);
+        }
+    }
+
+    /**
+     * 내려받기가 끝난 덤프 파일 삭제
+     */
+    public void deleteDump(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("JFR 덤프 파일 삭제 실패: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 기록 중지 (중지 후에도 close 전까지는 덤프 가능)
+     */
+    public synchronized Map<String, Object> stop() {
+        if (!isRunning()) {
+            throw new IllegalStateException("실행 중인 JFR 기록이 없습니다");
+        }
+        recording.stop();
+        log.info("JFR 기록 중지");
+        return getStatus();
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime() != null ? recording.getStartTime().toString() : null);
+            status.put("duration", recording.getDuration() != null ? recording.getDuration().toString() : null);
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    /**
+     * 오래된 덤프부터 삭제해 최근 keep 개만 남김 (파일명에 시각이 들어 있어 이름순 = 생성순)
+     */
+    private void pruneDumps(int keep) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            dumps = files
+                .filter(path -> path.getFileName().toString().startsWith(RECORDING_NAME + "-"))
+                .sorted(Comparator.comparing(Path::getFileName).reversed())
+                .toList();
+        }
+        for (int i = keep; i < dumps.size(); i++) {
+            deleteDump(dumps.get(i));
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null
+            && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+}
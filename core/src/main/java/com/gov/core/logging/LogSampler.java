@@ -0,0 +1,25 @@
+package com.gov.core.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 단위 INFO 로그 샘플러
+ * 1/rate 확률로 true 를 반환 (공유 카운터 없이 스레드 로컬 난수 사용 - 경합/할당 없음)
+ * rate 가 1 이하이면 항상 기록
+ */
+public final class LogSampler {
+
+    private final int rate;
+
+    public LogSampler(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    public boolean sample() {
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+}
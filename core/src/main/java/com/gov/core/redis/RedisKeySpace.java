@@ -0,0 +1,158 @@
+package com.gov.core.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 모듈 공용 Redis 키 스키마
+ * 키 프리픽스와 그 UTF-8 바이트를 한 번만 만들어 두고, 키 생성 시 검증/로그 없이 이어 붙인다
+ * 커넥션 수준 명령(파이프라인 UNLINK 등)은 keyBytes 로 String 을 거치지 않고 바로 byte[] 키를 만든다
+ */
+public enum RedisKeySpace {
+
+    COUPON_BALANCE("coupon:balance:"),
+    COUPON_LOCK("coupon:lock:"),
+    COUPON_EXPIRY("coupon:expiry:"),
+    PAYMENT_CACHE("payment:cache:"),
+    PAYMENT_TEMP("payment:temp:"),
+    USER_SESSION("user:session:"),
+    MERCHANT_CACHE("merchant:cache:"),
+    DAILY_STATS("stats:daily:"),
+    RATE_LIMIT("rate:limit:"),
+    BATCH_LEASE("batch:lease:"),
+    MAINTENANCE_CURSOR("maintenance:cursor:");
+
+    /**
+     * 쿠폰 만료 스케줄 (ZSET, 단일 키)
+     */
+    public static final String COUPON_EXPIRY_SCHEDULE = COUPON_EXPIRY.key("schedule");
+
+    /**
+     * 스키마에 없는 키의 메트릭 태그
+     */
+    public static final String TAG_OTHER = "other";
+
+    private static final char SEPARATOR = ':';
+    private static final RedisKeySpace[] VALUES = values();
+
+    private final String prefix;
+    private final byte[] prefixBytes;
+    private final String pattern;
+    private final String tag;
+
+    RedisKeySpace(String prefix) {
+        this.prefix = prefix;
+        this.prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+        this.pattern = prefix + "*";
+        this.tag = prefix.substring(0, prefix.length() - 1);
+    }
+
+    /**
+     * 형태: {prefix}{id} (예: coupon:balance:COUPON_001)
+     */
+    public String key(String id) {
+        return prefix.concat(id);
+    }
+
+    /**
+     * 형태: {prefix}{id}:{suffix} (예: stats:daily:20250125:MERCHANT_001)
+     */
+    public String key(String id, String suffix) {
+        return new StringBuilder(prefix.length() + id.length() + suffix.length() + 1)
+            .append(prefix).append(id).append(SEPARATOR).append(suffix)
+            .toString();
+    }
+
+    /**
+     * byte[] 키 생성 - 캐시된 프리픽스 바이트 + ID (ASCII ID 는 한 번의 배열 할당으로 처리)
+     */
+    public byte[] keyBytes(String id) {
+        int offset = prefixBytes.length;
+        int length = id.length();
+        byte[] key = new byte[offset + length];
+        System.arraycopy(prefixBytes, 0, key, 0, offset);
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c >= 0x80) {
+                return key(id).getBytes(StandardCharsets.UTF_8);
+            }
+            key[offset + i] = (byte) c;
+        }
+        return key;
+    }
+
+    /**
+     * SCAN MATCH 용 패턴 (예: coupon:lock:*)
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * 특정 ID 로 시작하는 키 패턴 (예: stats:daily:20250125*)
+     */
+    public String pattern(String idPrefix) {
+        return prefix + idPrefix + "*";
+    }
+
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * 메트릭 태그 (예: coupon:balance)
+     */
+    public String tag() {
+        return tag;
+    }
+
+    public boolean owns(String key) {
+        return key != null && key.startsWith(prefix);
+    }
+
+    public boolean owns(byte[] key) {
+        return key != null && key.length >= prefixBytes.length
+            && Arrays.equals(key, 0, prefixBytes.length, prefixBytes, 0, prefixBytes.length);
+    }
+
+    /**
+     * 키에서 ID 추출 (이 키 공간이 아니면 null)
+     */
+    public String idOf(String key) {
+        return owns(key) ? key.substring(prefix.length()) : null;
+    }
+
+    /**
+     * 키가 속한 키 공간 (없으면 null)
+     */
+    public static RedisKeySpace of(String key) {
+        for (RedisKeySpace keySpace : VALUES) {
+            if (keySpace.owns(key)) {
+                return keySpace;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * byte[] 키가 속한 키 공간 - 디코딩 없이 프리픽스 바이트로 비교
+     */
+    public static RedisKeySpace of(byte[] key) {
+        for (RedisKeySpace keySpace : VALUES) {
+            if (keySpace.owns(key)) {
+                return keySpace;
+            }
+        }
+        return null;
+    }
+
+    public static String tagOf(String key) {
+        RedisKeySpace keySpace = of(key);
+        return keySpace != null ? keySpace.tag : TAG_OTHER;
+    }
+
+    public static String tagOf(byte[] key) {
+        RedisKeySpace keySpace = of(key);
+        return keySpace != null ? keySpace.tag : TAG_OTHER;
+    }
+}
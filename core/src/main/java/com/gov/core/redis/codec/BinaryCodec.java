@@ -0,0 +1,18 @@
+package com.gov.core.redis.codec;
+
+/**
+ * 캐시 값 타입별 바이너리 스키마
+ * 필드를 정해진 순서로 이름 없이 기록하므로, 필드 추가/삭제/순서 변경 시 schemaVersion 을 올린다
+ * (버전이 다른 값은 BinaryRedisSerializer 가 캐시 미스로 처리)
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * 스키마 버전 (1 ~ 127)
+     */
+    int schemaVersion();
+
+    void encode(T value, BinaryOutput out);
+
+    T decode(BinaryInput in);
+}
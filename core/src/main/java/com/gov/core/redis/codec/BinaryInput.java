@@ -0,0 +1,117 @@
+package com.gov.core.redis.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값 바이너리 디코딩 - BinaryOutput 과 같은 규칙으로 읽는다
+ */
+public final class BinaryInput {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public BinaryInput(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("잘못된 varint 인코딩");
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] constants) {
+        int ordinal = readVarInt() - 1;
+        if (ordinal < 0) {
+            return null;
+        }
+        if (ordinal >= constants.length) {
+            throw new SerializationException("알 수 없는 열거형 값: " + ordinal);
+        }
+        return constants[ordinal];
+    }
+
+    public BigDecimal readDecimal() {
+        int tag = readByte();
+        if (tag == 0) {
+            return null;
+        }
+        int scale = (int) readSignedVarLong();
+        if (tag == 1) {
+            return BigDecimal.valueOf(readSignedVarLong(), scale);
+        }
+        int length = readVarInt();
+        require(length);
+        BigInteger unscaled = new BigInteger(buffer, position, length);
+        position += length;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    public LocalDateTime readDateTime() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = readSignedVarLong();
+        int nano = readVarInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    public LocalDate readDate() {
+        long raw = readVarLong();
+        if (raw == 0) {
+            return null;
+        }
+        long zigzag = raw - 1;
+        return LocalDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    private void require(int length) {
+        if (length > limit - position) {
+            throw new SerializationException("캐시 값이 잘렸습니다: 필요=" + length + ", 남음=" + (limit - position));
+        }
+    }
+}
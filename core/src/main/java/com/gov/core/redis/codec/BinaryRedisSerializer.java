@@ -0,0 +1,125 @@
+package com.gov.core.redis.codec;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 스키마 기반 바이너리 캐시 값 직렬화
+ * 형태: 헤더 1바이트(상위 비트 = 압축 여부, 하위 7비트 = 스키마 버전) + 본문
+ * 본문이 압축 임계값 이상이면 Deflate 로 압축하고 (원본 길이 varint + 압축 데이터), 줄어들 때만 압축본을 저장
+ * 스키마 버전이 다른 값은 null(캐시 미스)로 반환하여 배포 중 구버전 값이 자연스럽게 재적재되도록 한다
+ */
+public class BinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final int COMPRESSED_FLAG = 0x80;
+    private static final int VERSION_MASK = 0x7F;
+
+    private final BinaryCodec<T> codec;
+    private final int version;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold 압축을 시도할 최소 본문 크기 (바이트, 0 이하면 압축하지 않음)
+     */
+    public BinaryRedisSerializer(BinaryCodec<T> codec, int compressionThreshold) {
+        int version = codec.schemaVersion();
+        if (version < 1 || version > VERSION_MASK) {
+            throw new IllegalArgumentException("스키마 버전은 1 ~ 127 이어야 합니다: " + version);
+        }
+        this.codec = codec;
+        this.version = version;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return null;
+        }
+        BinaryOutput out = new BinaryOutput();
+        out.writeByte(version);
+        codec.encode(value, out);
+
+        int bodyLength = out.size() - 1;
+        if (compressionThreshold > 0 && bodyLength >= compressionThreshold) {
+            byte[] compressed = compress(out.buffer(), bodyLength);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        if ((header & VERSION_MASK) != version) {
+            return null;
+        }
+        if ((header & COMPRESSED_FLAG) == 0) {
+            return codec.decode(new BinaryInput(bytes, 1, bytes.length - 1));
+        }
+
+        BinaryInput lengthInput = new BinaryInput(bytes, 1, bytes.length - 1);
+        int rawLength = lengthInput.readVarInt();
+        int dataOffset = bytes.length - lengthInput.remaining();
+        byte[] raw = inflate(bytes, dataOffset, rawLength);
+        return codec.decode(new BinaryInput(raw, 0, raw.length));
+    }
+
+    /**
+     * 압축 결과가 원본보다 작을 때만 [헤더|원본 길이|압축 데이터] 반환
+     */
+    private byte[] compress(byte[] buffer, int bodyLength) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(buffer, 1, bodyLength);
+            deflater.finish();
+
+            BinaryOutput out = new BinaryOutput(bodyLength);
+            out.writeByte(version | COMPRESSED_FLAG);
+            out.writeVarInt(bodyLength);
+            byte[] chunk = new byte[Math.min(bodyLength, 8192)];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.writeBytes(chunk, 0, written);
+                if (out.size() >= bodyLength) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int rawLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new SerializationException("압축 해제 길이 불일치: 예상=" + rawLength + ", 실제=" + read);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new SerializationException("캐시 값 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.gov.core.redis.codec;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 타입별 바이너리 캐시 템플릿 생성 - 키는 공용 문자열 직렬화, 값은 코덱 스키마로 기록
+ */
+public final class BinaryRedisTemplates {
+
+    private BinaryRedisTemplates() {
+    }
+
+    public static <T> RedisTemplate<String, T> create(RedisConnectionFactory connectionFactory,
+        BinaryCodec<T> codec, int compressionThreshold) {
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(new BinaryRedisSerializer<>(codec, compressionThreshold));
+        template.setEnableDefaultSerializer(false);
+        return template;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gov.core.redis.codec;
+
+import com.gov.core.dto.MerchantSnapshot;
+import com.gov.core.entity.Merchant.MerchantCategory;
+
+/**
+ * 가맹점 스냅샷 스키마 v1: merchantId, merchantName, category
+ */
+public class MerchantSnapshotCodec implements BinaryCodec<MerchantSnapshot> {
+
+    private static final MerchantCategory[] CATEGORIES = MerchantCategory.values();
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(MerchantSnapshot value, BinaryOutput out) {
+        out.writeString(value.merchantId());
+        out.writeString(value.merchantName());
+        out.writeEnum(value.category());
+    }
+
+    @Override
+    public MerchantSnapshot decode(BinaryInput in) {
+        return new MerchantSnapshot(
+            in.readString(),
+            in.readString(),
+            in.readEnum(CATEGORIES)
+        );
+    }
+}
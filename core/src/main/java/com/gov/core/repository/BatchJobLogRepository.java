@@ -1,9 +1,17 @@
 package com.gov.core.repository;
 
 import com.gov.core.entity.BatchJobLog;
+import com.gov.core.entity.BatchJobLog.BatchJobStatus;
+import java.util.Collection;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface BatchJobLogRepository extends JpaRepository<BatchJobLog, String> {
 
+    // 체크포인트 확인용 - 동일 작업명의 완료 이력 존재 여부
+    boolean existsByJobNameAndStatus(String jobName, BatchJobStatus status);
 
+    // 재개 대상 작업 조회 - 동일 작업명의 가장 최근 미완료 로그
+    Optional<BatchJobLog> findFirstByJobNameAndStatusInOrderByStartTimeDesc(String jobName,
+        Collection<BatchJobStatus> statuses);
 }
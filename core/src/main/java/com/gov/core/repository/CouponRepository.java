@@ -1,12 +1,17 @@
 package com.gov.core.repository;
 
 import com.gov.core.entity.Coupon;
+import com.gov.core.entity.Coupon.CouponStatus;
 import com.gov.core.entity.User;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -39,6 +44,55 @@ public interface CouponRepository extends JpaRepository<Coupon, String> {
         "AND c.expiryDate < :currentDate")
     List<Coupon> findExpiredCoupons(@Param("currentDate") LocalDate currentDate);
 
+    /**
+     * 만료 대상 쿠폰 ID 키셋 페이지 조회 (배치 청크용)
+     */
+    @Query("SELECT c.couponId FROM Coupon c WHERE c.status = 'ACTIVE' " +
+        "AND c.expiryDate < :currentDate AND c.couponId > :afterCouponId " +
+        "ORDER BY c.couponId ASC")
+    List<String> findExpiredCouponIdsAfter(@Param("currentDate") LocalDate currentDate,
+        @Param("afterCouponId") String afterCouponId,
+        Pageable pageable);
+
+    /**
+     * 활성 쿠폰 만료일 키셋 페이지 조회 (만료 스케줄 인덱스 재구성용)
+     */
+    @Query("SELECT c.couponId AS couponId, c.expiryDate AS expiryDate FROM Coupon c " +
+        "WHERE c.status = 'ACTIVE' AND c.couponId > :afterCouponId " +
+        "ORDER BY c.couponId ASC")
+    List<CouponExpiryView> findActiveExpiryAfter(@Param("afterCouponId") String afterCouponId,
+        Pageable pageable);
+
+    /**
+     * 지정 쿠폰 중 활성 쿠폰의 만료일 조회 (만료 스케줄 인덱스 정리용)
+     */
+    @Query("SELECT c.couponId AS couponId, c.expiryDate AS expiryDate FROM Coupon c " +
+        "WHERE c.couponId IN :couponIds AND c.status = 'ACTIVE'")
+    List<CouponExpiryView> findActiveExpiryByIds(@Param("couponIds") Collection<String> couponIds);
+
+    /**
+     * 청크 내 만료 대상 쿠폰 잔액 합계 (만료 금액 집계용)
+     */
+    @Query("SELECT COALESCE(SUM(c.remainingAmount), 0) FROM Coupon c " +
+        "WHERE c.couponId IN :couponIds AND c.status = 'ACTIVE' " +
+        "AND c.expiryDate < :currentDate")
+    BigDecimal sumExpirableRemainingAmount(@Param("couponIds") Collection<String> couponIds,
+        @Param("currentDate") LocalDate currentDate);
+
+    /**
+     * 쿠폰 일괄 만료 (잔액 0원, 상태 EXPIRED)
+     * 만료일이 연장된 쿠폰은 제외되도록 만료일 조건을 함께 확인
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.status = :expiredStatus, c.remainingAmount = 0, " +
+        "c.updatedAt = :updatedAt " +
+        "WHERE c.couponId IN :couponIds AND c.status = 'ACTIVE' " +
+        "AND c.expiryDate < :currentDate")
+    int expireByIds(@Param("couponIds") Collection<String> couponIds,
+        @Param("currentDate") LocalDate currentDate,
+        @Param("expiredStatus") CouponStatus expiredStatus,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * 사용자의 총 쿠폰 잔액 조회
      */
@@ -53,4 +107,13 @@ public interface CouponRepository extends JpaRepository<Coupon, String> {
      */
     Optional<Coupon> findByCouponIdAndUser_UserId(String couponId, String userId);
 
+    /**
+     * 쿠폰 만료일 프로젝션
+     */
+    interface CouponExpiryView {
+
+        String getCouponId();
+
+        LocalDate getExpiryDate();
+    }
 }
@@ -1,11 +1,13 @@
 package com.gov.core.service;
 
+import com.gov.core.batch.BatchLeaseService;
 import com.gov.core.entity.BatchJobLog;
 import com.gov.core.entity.BatchJobLog.BatchJobStatus;
 import com.gov.core.entity.BatchJobLog.BatchJobType;
 import com.gov.core.repository.BatchJobLogRepository;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +41,7 @@ public class BatchJobLogService {
             .jobType(parsejobType(jobType))
             .status(BatchJobStatus.RUNNING)
             .startTime(LocalDateTime.now())
+            .owner(BatchLeaseService.NODE_ID)
             .parameters(parameters != null ? parameters : new HashMap<>())
             .build();
 
@@ -73,6 +76,49 @@ public class BatchJobLogService {
         batchJobLogRepository.save(jobLog);
     }
 
+    /**
+     * 배치 작업 진행 상황 기록 (청크 커밋마다 호출)
+     */
+    public void recordProgress(String logId, int processedCount, int successCount, int errorCount,
+        Map<String, Object> checkpoint) {
+        BatchJobLog jobLog = batchJobLogRepository.findById(logId)
+            .orElseThrow(() -> new IllegalArgumentException("배치 작업 로그를 찾을 수 없습니다: " + logId));
+
+        jobLog.updateProgress(processedCount, successCount, errorCount, checkpoint);
+        batchJobLogRepository.save(jobLog);
+    }
+
+    /**
+     * 중단(RUNNING 상태로 남은)되었거나 실패한 작업이 있으면 재개, 없으면 새로 시작
+     */
+    public BatchJobLog startOrResumeJob(String jobType, String jobName, Map<String, Object> parameters) {
+        return batchJobLogRepository.findFirstByJobNameAndStatusInOrderByStartTimeDesc(jobName,
+                List.of(BatchJobStatus.RUNNING, BatchJobStatus.FAILED))
+            .map(jobLog -> {
+                jobLog.resume(BatchLeaseService.NODE_ID);
+                log.info("배치 작업 재개: jobName={}, logId={}, processed={}",
+                    jobName, jobLog.getLogId(), jobLog.getProcessedCount());
+                return batchJobLogRepository.save(jobLog);
+            })
+            .orElseGet(() -> startJob(jobType, jobName, parameters));
+    }
+
+    /**
+     * 작업 완료 여부 확인 (샤드/청크 단위 체크포인트)
+     */
+    @Transactional(readOnly = true)
+    public boolean isCompleted(String jobName) {
+        return batchJobLogRepository.existsByJobNameAndStatus(jobName, BatchJobStatus.COMPLETED);
+    }
+
+    /**
+     * 작업 완료 여부 확인 (Primary 조회)
+     * 리스 획득 직후 재확인처럼 다른 노드가 방금 기록한 완료를 봐야 하는 경우 사용 - readOnly 가 아니므로 Replica 로 라우팅되지 않음
+     */
+    public boolean isCompletedOnPrimary(String jobName) {
+        return batchJobLogRepository.existsByJobNameAndStatus(jobName, BatchJobStatus.COMPLETED);
+    }
+
     private BatchJobType parsejobType(String jobType) {
         try {
             return BatchJobType.valueOf(jobType);
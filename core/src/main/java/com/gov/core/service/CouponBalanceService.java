@@ -1,13 +1,23 @@
 package com.gov.core.service;
 
+import com.gov.core.redis.RedisKeySpace;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,25 +32,33 @@ public class CouponBalanceService {
     private final RedisTemplate<String, String> redisTemplate;
     private final RedissonClient redissonClient;
 
-    private static final String BALANCE_KEY_PREFIX = "coupon:balance:";
-    private static final String LOCK_KEY_PREFIX = "coupon:lock:";
     private static final int LOCK_WAIT_TIME = 5;
     private static final int LOCK_LEASE_TIME = 10;
+    private static final int UNLINK_BATCH_SIZE = 500;
+    private static final Duration BALANCE_TTL = Duration.ofHours(24);
+    private static final ZoneId EXPIRY_ZONE = ZoneId.of("Asia/Seoul");
 
     /**
-     * 쿠폰 잔액을 Redis에 초기화
+     * 쿠폰 잔액을 Redis에 초기화 (만료일 기준 TTL)
+     * 기본 TTL(24시간)과 만료 시각 중 빠른 쪽에 키가 정리되도록 설정
      */
-    public void initializeBalance(String couponId, BigDecimal amount) {
-        String key = BALANCE_KEY_PREFIX + couponId;
-        redisTemplate.opsForValue().set(key, amount.toString(), Duration.ofHours(24));
-        log.debug("쿠폰 잔액 초기화: couponId={}, amount={}", couponId, amount);
+    public void initializeBalance(String couponId, BigDecimal amount, LocalDate expiryDate) {
+        String key = RedisKeySpace.COUPON_BALANCE.key(couponId);
+        Duration ttl = balanceTtl(expiryDate);
+        if (ttl.isZero()) {
+            redisTemplate.delete(key);
+            log.debug("만료된 쿠폰 잔액 초기화 생략: couponId={}, expiryDate={}", couponId, expiryDate);
+            return;
+        }
+        redisTemplate.opsForValue().set(key, amount.toString(), ttl);
+        log.debug("쿠폰 잔액 초기화: couponId={}, amount={}, ttl={}", couponId, amount, ttl);
     }
 
     /**
      * 쿠폰 잔액 조회
      */
     public BigDecimal getBalance(String couponId) {
-        String key = BALANCE_KEY_PREFIX + couponId;
+        String key = RedisKeySpace.COUPON_BALANCE.key(couponId);
         String balance = redisTemplate.opsForValue().get(key);
 
         if (balance == null) {
@@ -56,12 +74,12 @@ public class CouponBalanceService {
      * 결제 시작 시 호출
      */
     public boolean reserveAmount(String couponId, BigDecimal amount) {
-        String lockKey = LOCK_KEY_PREFIX + couponId;
+        String lockKey = RedisKeySpace.COUPON_LOCK.key(couponId);
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
             if (lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS)) {
-                String balanceKey = BALANCE_KEY_PREFIX + couponId;
+                String balanceKey = RedisKeySpace.COUPON_BALANCE.key(couponId);
                 String currentBalance = redisTemplate.opsForValue().get(balanceKey);
 
                 if (currentBalance == null) {
@@ -72,7 +90,7 @@ public class CouponBalanceService {
                 BigDecimal balance = new BigDecimal(currentBalance);
                 if (balance.compareTo(amount) >= 0) {
                     BigDecimal newBalance = balance.subtract(amount);
-                    redisTemplate.opsForValue().set(balanceKey, newBalance.toString());
+                    setKeepingTtl(couponId, newBalance);
 
                     log.info("쿠폰 금액 예약 성공: couponId={}, amount={}, remainingBalance={}",
                         couponId, amount, newBalance);
@@ -110,18 +128,18 @@ public class CouponBalanceService {
      * 결제 실패 시 호출
      */
     public void restoreAmount(String couponId, BigDecimal amount) {
-        String lockKey = LOCK_KEY_PREFIX + couponId;
+        String lockKey = RedisKeySpace.COUPON_LOCK.key(couponId);
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
             if (lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS)) {
-                String balanceKey = BALANCE_KEY_PREFIX + couponId;
+                String balanceKey = RedisKeySpace.COUPON_BALANCE.key(couponId);
                 String currentBalance = redisTemplate.opsForValue().get(balanceKey);
 
                 if (currentBalance != null) {
                     BigDecimal balance = new BigDecimal(currentBalance);
                     BigDecimal newBalance = balance.add(amount);
-                    redisTemplate.opsForValue().set(balanceKey, newBalance.toString());
+                    setKeepingTtl(couponId, newBalance);
 
                     log.info("쿠폰 금액 복원 완료: couponId={}, amount={}, newBalance={}",
                         couponId, amount, newBalance);
@@ -140,19 +158,39 @@ public class CouponBalanceService {
     }
 
     /**
-     * 쿠폰 잔액 동기화 (DB → Redis)
+     * 쿠폰 잔액 동기화 (DB → Redis, 만료일 기준 TTL)
+     */
+    public void syncBalance(String couponId, BigDecimal dbBalance, LocalDate expiryDate) {
+        initializeBalance(couponId, dbBalance, expiryDate);
+    }
+
+    /**
+     * 잔액 갱신 - 초기화 시 설정한 만료일 기준 TTL 유지 (SET ... KEEPTTL)
      */
-    public void syncBalance(String couponId, BigDecimal dbBalance) {
-        String key = BALANCE_KEY_PREFIX + couponId;
-        redisTemplate.opsForValue().set(key, dbBalance.toString(), Duration.ofHours(24));
-        log.debug("쿠폰 잔액 동기화: couponId={}, balance={}", couponId, dbBalance);
+    private void setKeepingTtl(String couponId, BigDecimal balance) {
+        byte[] key = RedisKeySpace.COUPON_BALANCE.keyBytes(couponId);
+        byte[] value = balance.toString().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+            connection.stringCommands().set(key, value, Expiration.keepTtl(), SetOption.upsert()));
+    }
+
+    /**
+     * 잔액 키 TTL - 만료일 다음날 0시(KST)까지 남은 시간과 기본 TTL 중 짧은 값
+     */
+    private Duration balanceTtl(LocalDate expiryDate) {
+        Duration untilExpiry = Duration.between(ZonedDateTime.now(EXPIRY_ZONE),
+            expiryDate.plusDays(1).atStartOfDay(EXPIRY_ZONE));
+        if (untilExpiry.isNegative() || untilExpiry.isZero()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(BALANCE_TTL) < 0 ? untilExpiry : BALANCE_TTL;
     }
 
     /**
      * 쿠폰 잔액 캐시 삭제 (만료 처리용)
      */
     public void clearBalance(String couponId) {
-        String key = BALANCE_KEY_PREFIX + couponId;
+        String key = RedisKeySpace.COUPON_BALANCE.key(couponId);
         Boolean deleted = redisTemplate.delete(key);
 
         if (Boolean.TRUE.equals(deleted)) {
@@ -162,4 +200,36 @@ public class CouponBalanceService {
         }
     }
 
+    /**
+     * 쿠폰 잔액 캐시 일괄 삭제 (만료 배치용)
+     * UNLINK를 배치 단위로 파이프라이닝하여 왕복 횟수를 줄이고 메모리 해제는 Redis 측에서 비동기로 처리
+     *
+     * @return 실제 삭제된 키 수
+     */
+    public long clearBalances(Collection<String> couponIds) {
+        if (couponIds == null || couponIds.isEmpty()) {
+            return 0;
+        }
+
+        List<byte[]> keys = couponIds.stream()
+            .map(couponId -> RedisKeySpace.COUPON_BALANCE.keyBytes(couponId))
+            .toList();
+
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+                List<byte[]> batch = keys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keys.size()));
+                connection.keyCommands().unlink(batch.toArray(new byte[0][]));
+            }
+            return null;
+        });
+
+        long removed = replies.stream()
+            .filter(Long.class::isInstance)
+            .mapToLong(Long.class::cast)
+            .sum();
+
+        log.debug("쿠폰 잔액 캐시 일괄 삭제: requested={}, removed={}", keys.size(), removed);
+        return removed;
+    }
+
 }
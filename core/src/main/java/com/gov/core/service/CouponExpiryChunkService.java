@@ -0,0 +1,33 @@
+package com.gov.core.service;
+
+import com.gov.core.entity.Coupon.CouponStatus;
+import com.gov.core.repository.CouponRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 쿠폰 만료 청크 처리 - 청크마다 독립 트랜잭션으로 커밋
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponExpiryChunkService {
+
+    private final CouponRepository couponRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ChunkResult expireChunk(List<String> couponIds, LocalDate currentDate) {
+        BigDecimal expiredAmount = couponRepository.sumExpirableRemainingAmount(couponIds, currentDate);
+        int expiredCount = couponRepository.expireByIds(couponIds, currentDate, CouponStatus.EXPIRED,
+            LocalDateTime.now());
+        return new ChunkResult(expiredCount, expiredAmount);
+    }
+
+    public record ChunkResult(int expiredCount, BigDecimal expiredAmount) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.gov.core.service;
+
+import com.gov.core.entity.Coupon;
+import com.gov.core.entity.Coupon.CouponStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쿠폰 발급/만료일 변경 시 만료 스케줄 인덱스 등록 (JPA 엔티티 리스너)
+ * 조회된 적 없는 쿠폰도 만료 배치 대상이 되도록 저장 시점에 인덱싱하고, 커밋 후에만 Redis 에 반영
+ * 스케줄 서비스 -> 리포지토리 -> EntityManagerFactory 순환을 피하기 위해 ObjectProvider 로 지연 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponExpiryIndexListener {
+
+    private final ObjectProvider<CouponExpiryScheduleService> expiryScheduleService;
+
+    @PostPersist
+    public void onIssued(Coupon coupon) {
+        if (coupon.getStatus() == CouponStatus.ACTIVE) {
+            scheduleAfterCommit(coupon.getCouponId(), coupon.getExpiryDate());
+        }
+    }
+
+    @PostUpdate
+    public void onUpdated(Coupon coupon) {
+        if (coupon.getStatus() == CouponStatus.ACTIVE && coupon.isExpiryDateChanged()) {
+            scheduleAfterCommit(coupon.getCouponId(), coupon.getExpiryDate());
+        }
+    }
+
+    private void scheduleAfterCommit(String couponId, LocalDate expiryDate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule(couponId, expiryDate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule(couponId, expiryDate);
+            }
+        });
+    }
+
+    private void schedule(String couponId, LocalDate expiryDate) {
+        try {
+            expiryScheduleService.getObject().schedule(couponId, expiryDate);
+        } catch (Exception e) {
+            // 인덱스 누락분은 reconcile-scan 이 보정
+            log.warn("쿠폰 만료 스케줄 등록 실패: couponId={}, error={}", couponId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.gov.core.service;
+
+import com.gov.core.redis.RedisKeySpace;
+import com.gov.core.repository.CouponRepository;
+import com.gov.core.repository.CouponRepository.CouponExpiryView;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 만료 스케줄 인덱스
+ * Redis Sorted Set에 만료일(epoch day)을 score로 쿠폰 ID를 저장하여
+ * 만료 배치가 전체 쿠폰을 스캔하지 않고 기한이 도래한 쿠폰만 꺼내 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponExpiryScheduleService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponRepository couponRepository;
+
+    private static final String SCHEDULE_KEY = RedisKeySpace.COUPON_EXPIRY_SCHEDULE;
+
+    /**
+     * score 가 기준 이하(여전히 기한 도래)인 멤버만 제거 - 처리 중 만료일이 연장되어 재등록된 쿠폰은 유지
+     * ARGV[1] = 기준 score, ARGV[2..] = 쿠폰 ID
+     */
+    private static final RedisScript<Long> REMOVE_IF_DUE_SCRIPT = new DefaultRedisScript<>(
+        "local removed = 0 " +
+            "for i = 2, #ARGV do " +
+            "  local score = redis.call('zscore', KEYS[1], ARGV[i]) " +
+            "  if score and tonumber(score) <= tonumber(ARGV[1]) then " +
+            "    removed = removed + redis.call('zrem', KEYS[1], ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return removed",
+        Long.class);
+
+    /**
+     * 쿠폰 만료 일정 등록 (발급/동기화 시 호출, 만료일 변경 시 score 갱신)
+     */
+    public void schedule(String couponId, LocalDate expiryDate) {
+        redisTemplate.opsForZSet().add(SCHEDULE_KEY, couponId, expiryDate.toEpochDay());
+    }
+
+    /**
+     * 쿠폰 만료 일정 일괄 등록
+     */
+    public void scheduleAll(Map<String, LocalDate> expiryDates) {
+        if (expiryDates.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = expiryDates.entrySet().stream()
+            .map(entry -> new DefaultTypedTuple<>(entry.getKey(), (double) entry.getValue().toEpochDay()))
+            .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(SCHEDULE_KEY, tuples);
+    }
+
+    /**
+     * 만료 기한이 지난 쿠폰 ID 조회 (expiryDate < currentDate)
+     * 처리 완료 후 remove를 호출해야 인덱스에서 제거됨
+     */
+    public List<String> findDue(LocalDate currentDate, int limit) {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(
+            SCHEDULE_KEY, Double.NEGATIVE_INFINITY, currentDate.toEpochDay() - 1, 0, limit);
+        return due == null ? List.of() : List.copyOf(due);
+    }
+
+    public void remove(Collection<String> couponIds) {
+        if (couponIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(SCHEDULE_KEY, couponIds.toArray());
+    }
+
+    /**
+     * 처리한 쿠폰을 인덱스에서 제거 - 제거 시점에도 기한 도래 상태인 항목만 (ZSCORE 확인 후 ZREM)
+     */
+    public long removeIfDue(Collection<String> couponIds, LocalDate currentDate) {
+        if (couponIds.isEmpty()) {
+            return 0;
+        }
+        Object[] args = new Object[couponIds.size() + 1];
+        args[0] = String.valueOf(currentDate.toEpochDay() - 1);
+        int i = 1;
+        for (String couponId : couponIds) {
+            args[i++] = couponId;
+        }
+        Long removed = redisTemplate.execute(REMOVE_IF_DUE_SCRIPT, List.of(SCHEDULE_KEY), args);
+        return removed != null ? removed : 0;
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForZSet().zCard(SCHEDULE_KEY);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * DB의 활성 쿠폰으로 인덱스 재구성 (도입 시점 백필 / 누락 보정용)
+     */
+    public int rebuild(int pageSize) {
+        String lastCouponId = "";
+        int scheduled = 0;
+
+        while (true) {
+            List<CouponExpiryView> page = couponRepository.findActiveExpiryAfter(
+                lastCouponId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            scheduleAll(page.stream().collect(Collectors.toMap(
+                CouponExpiryView::getCouponId, CouponExpiryView::getExpiryDate)));
+
+            scheduled += page.size();
+            lastCouponId = page.get(page.size() - 1).getCouponId();
+        }
+
+        log.info("쿠폰 만료 스케줄 인덱스 재구성 완료: scheduled={}", scheduled);
+        return scheduled;
+    }
+}
@@ -2,133 +2,250 @@ package com.gov.core.service;
 
 import com.gov.core.dto.CouponExpiryResult;
 import com.gov.core.entity.BatchJobLog;
-import com.gov.core.entity.Coupon;
 import com.gov.core.repository.CouponRepository;
+import com.gov.core.repository.CouponRepository.CouponExpiryView;
+import com.gov.core.service.CouponExpiryChunkService.ChunkResult;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 @Slf4j
-@RequiredArgsConstructor
 public class CouponExpiryService {
 
     private final CouponRepository couponRepository;
     private final CouponBalanceService balanceService;
     private final BatchJobLogService batchJobLogService;
+    private final CouponExpiryChunkService couponExpiryChunkService;
+    private final CouponExpiryScheduleService expiryScheduleService;
+    private final Executor redisBulkExecutor;
+
+    private static final String JOB_NAME_PREFIX = "coupon-expiry:";
+    private static final String CHECKPOINT_LAST_COUPON_ID = "lastCouponId";
+    private static final String CHECKPOINT_EXPIRED_AMOUNT = "expiredAmount";
+    private static final int MAX_ERROR_MESSAGES = 100;
+
+    @Value("${coupon.expiry.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${coupon.expiry.reconcile-scan:true}")
+    private boolean reconcileScan;
+
+    public CouponExpiryService(CouponRepository couponRepository,
+        CouponBalanceService balanceService,
+        BatchJobLogService batchJobLogService,
+        CouponExpiryChunkService couponExpiryChunkService,
+        CouponExpiryScheduleService expiryScheduleService,
+        @Qualifier("redisBulkExecutor") Executor redisBulkExecutor) {
+        this.couponRepository = couponRepository;
+        this.balanceService = balanceService;
+        this.batchJobLogService = batchJobLogService;
+        this.couponExpiryChunkService = couponExpiryChunkService;
+        this.expiryScheduleService = expiryScheduleService;
+        this.redisBulkExecutor = redisBulkExecutor;
+    }
 
     /**
      * 만료된 쿠폰 처리 (메인 배치 로직)
+     * 1. 만료 스케줄 인덱스에서 기한이 도래한 쿠폰만 꺼내 청크별 일괄 UPDATE 후 커밋
+     * 2. reconcile-scan 활성화 시 인덱스 누락분을 키셋 페이지 스캔으로 보정
+     * 청크마다 BatchJobLog에 진행 상황을 기록하여 중단 시 이어서 처리
+     * 실패한 청크가 있으면 작업을 FAILED 로 남겨 다음 실행이 체크포인트부터 재개하도록 한다
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CouponExpiryResult processExpiredCoupons() {
-        String jobId = UUID.randomUUID().toString();
         LocalDate currentDate = LocalDate.now();
 
-        log.info("쿠폰 만료 처리 배치 시작: jobId={}, date={}", jobId, currentDate);
-
-        // 배치 작업 로그 시작
-        BatchJobLog batchLog = batchJobLogService.startJob(
+        BatchJobLog batchLog = batchJobLogService.startOrResumeJob(
             "COUPON_EXPIRY",
-            "쿠폰 만료 처리",
+            JOB_NAME_PREFIX + currentDate,
             Map.of("targetDate", currentDate.toString())
         );
+        String jobId = batchLog.getLogId();
+
+        // 재개 시 이전 진행 상황부터 이어서 집계
+        Progress progress = Progress.resumeFrom(batchLog);
+
+        log.info("쿠폰 만료 처리 배치 시작: jobId={}, date={}, resumeAfter={}",
+            jobId, currentDate, progress.lastCouponId);
 
         try {
-            // 1. 만료된 쿠폰 조회
-            List<Coupon> expiredCoupons = couponRepository.findExpiredCoupons(currentDate);
+            boolean drained = expireScheduledCoupons(jobId, currentDate, progress);
 
-            if (expiredCoupons.isEmpty()) {
-                log.info("만료된 쿠폰이 없습니다.");
-                batchJobLogService.completeJob(batchLog.getLogId(), 0, 0, 0);
-                return CouponExpiryResult.empty();
+            if (drained && reconcileScan) {
+                drained = expireByKeysetScan(jobId, currentDate, progress);
             }
 
-            log.info("만료 대상 쿠폰 수: {}", expiredCoupons.size());
+            long clearedKeys = awaitClears(progress.pendingClears);
+            if (drained) {
+                batchJobLogService.completeJob(jobId, progress.totalCount, progress.successCount, progress.errorCount);
+            } else {
+                // 실패 청크는 인덱스/커서에 남아 있으므로 재개 가능한 상태로 종료
+                batchJobLogService.failJob(jobId, progress.errorMessages.isEmpty()
+                    ? "쿠폰 만료 청크 처리 실패" : progress.errorMessages.get(progress.errorMessages.size() - 1));
+                log.warn("쿠폰 만료 처리 배치 일부 실패, 다음 실행에서 재개: jobId={}, lastCouponId={}",
+                    jobId, progress.lastCouponId);
+            }
 
-            // 2. 만료 처리 실행
-            CouponExpiryResult result = expireCoupons(expiredCoupons);
+            if (progress.totalCount == 0) {
+                log.info("만료된 쿠폰이 없습니다.");
+                return CouponExpiryResult.empty();
+            }
 
-            // 3. 배치 작업 로그 완료
-            batchJobLogService.completeJob(
-                batchLog.getLogId(),
-                result.totalCount(),        // Record의 accessor 메서드 사용
-                result.successCount(),      // Record의 accessor 메서드 사용
-                result.errorCount()         // Record의 accessor 메서드 사용
+            CouponExpiryResult result = new CouponExpiryResult(
+                progress.totalCount,
+                progress.successCount,
+                progress.errorCount,
+                progress.totalExpiredAmount,
+                progress.errorMessages,
+                LocalDateTime.now()
             );
 
-            // 4. 통계 로깅
             logExpiryStatistics(result, currentDate);
-
-            log.info("쿠폰 만료 처리 배치 완료: jobId={}, result={}", jobId, result.getSummary());
+            log.info("쿠폰 만료 처리 배치 완료: jobId={}, result={}, clearedKeys={}",
+                jobId, result.getSummary(), clearedKeys);
 
             return result;
 
         } catch (Exception e) {
-            log.error("쿠폰 만료 처리 배치 실패: jobId={}", jobId, e);
-            batchJobLogService.failJob(batchLog.getLogId(), e.getMessage());
+            log.error("쿠폰 만료 처리 배치 실패: jobId={}, lastCouponId={}", jobId, progress.lastCouponId, e);
+            batchJobLogService.failJob(jobId, e.getMessage());
             throw e;
         }
     }
 
     /**
-     * 쿠폰 만료 처리 실행
+     * 만료 스케줄 인덱스에서 기한 도래 쿠폰만 처리
+     * 커밋된 청크만 인덱스에서 정리하고, 실패한 청크는 남겨 다음 실행에서 재시도
+     *
+     * @return 기한 도래분을 모두 처리했으면 true, 실패한 청크에서 멈췄으면 false
+     */
+    private boolean expireScheduledCoupons(String jobId, LocalDate currentDate, Progress progress) {
+        while (true) {
+            List<String> dueCouponIds = expiryScheduleService.findDue(currentDate, chunkSize);
+            if (dueCouponIds.isEmpty()) {
+                return true;
+            }
+
+            boolean committed = expireChunk(dueCouponIds, currentDate, progress);
+            recordProgress(jobId, progress);
+
+            if (!committed) {
+                return false;
+            }
+            settleScheduleIndex(dueCouponIds, currentDate);
+        }
+    }
+
+    /**
+     * 커밋된 청크의 인덱스 정리
+     * 만료일이 연장되어 건너뛴 쿠폰은 실제 만료일로 재등록하고, 나머지는 여전히 기한 도래 상태일 때만 제거
+     */
+    private void settleScheduleIndex(List<String> dueCouponIds, LocalDate currentDate) {
+        Map<String, LocalDate> extended = couponRepository.findActiveExpiryByIds(dueCouponIds).stream()
+            .filter(view -> !view.getExpiryDate().isBefore(currentDate))
+            .collect(Collectors.toMap(CouponExpiryView::getCouponId, CouponExpiryView::getExpiryDate));
+
+        expiryScheduleService.scheduleAll(extended);
+        List<String> settled = extended.isEmpty() ? dueCouponIds : dueCouponIds.stream()
+            .filter(couponId -> !extended.containsKey(couponId))
+            .toList();
+        expiryScheduleService.removeIfDue(settled, currentDate);
+    }
+
+    /**
+     * 키셋 페이지 스캔으로 만료 대상 처리 (인덱스 누락분 보정)
+     * 커서는 커밋된 청크 뒤로만 이동
+     *
+     * @return 끝까지 스캔했으면 true, 실패한 청크에서 멈췄으면 false
      */
-    private CouponExpiryResult expireCoupons(List<Coupon> expiredCoupons) {
-        int successCount = 0;
-        int errorCount = 0;
-        BigDecimal totalExpiredAmount = BigDecimal.ZERO;
-        List<String> errorMessages = new ArrayList<>();
-
-        for (Coupon coupon : expiredCoupons) {
-            try {
-                BigDecimal expiredAmount = coupon.getRemainingAmount();
-
-                // 쿠폰 만료 처리 (잔액 0원으로 설정)
-                coupon.expire(); // forceExpire -> expire로 수정 (메서드가 있다면)
-
-                // Redis 캐시 삭제
-                balanceService.clearBalance(coupon.getCouponId());
-
-                totalExpiredAmount = totalExpiredAmount.add(expiredAmount);
-                successCount++;
-
-                log.debug("쿠폰 만료 처리 완료: couponId={}, expiredAmount={}",
-                    coupon.getCouponId(), expiredAmount);
-
-            } catch (Exception e) {
-                errorCount++;
-                String errorMsg = String.format("쿠폰 만료 처리 실패: couponId=%s, error=%s",
-                    coupon.getCouponId(), e.getMessage());
-                errorMessages.add(errorMsg);
-                log.error(errorMsg, e);
+    private boolean expireByKeysetScan(String jobId, LocalDate currentDate, Progress progress) {
+        while (true) {
+            List<String> couponIds = couponRepository.findExpiredCouponIdsAfter(
+                currentDate, progress.lastCouponId, PageRequest.of(0, chunkSize));
+            if (couponIds.isEmpty()) {
+                return true;
+            }
+
+            boolean committed = expireChunk(couponIds, currentDate, progress);
+            if (!committed) {
+                // 실패한 청크는 커서를 넘기지 않아 재실행(같은 날짜 작업 재개) 시 같은 구간부터 재시도
+                recordProgress(jobId, progress);
+                return false;
             }
+            progress.lastCouponId = couponIds.get(couponIds.size() - 1);
+            recordProgress(jobId, progress);
         }
+    }
+
+    /**
+     * 청크 처리 - 전체 건수는 실제 만료 건수 + 실패 건수 (만료일 연장/상태 변경으로 건너뛴 쿠폰은 제외)
+     */
+    private boolean expireChunk(List<String> couponIds, LocalDate currentDate, Progress progress) {
+        try {
+            ChunkResult chunk = couponExpiryChunkService.expireChunk(couponIds, currentDate);
+            progress.totalExpiredAmount = progress.totalExpiredAmount.add(chunk.expiredAmount());
+            progress.totalCount += chunk.expiredCount();
+            progress.successCount += chunk.expiredCount();
+
+            // 다음 청크 DB 처리와 겹쳐서 Redis 캐시 삭제
+            progress.pendingClears.add(clearBalancesAsync(couponIds));
+
+            log.debug("쿠폰 만료 청크 완료: size={}, expired={}, lastCouponId={}",
+                couponIds.size(), chunk.expiredCount(), couponIds.get(couponIds.size() - 1));
+            return true;
 
-        // 변경사항 일괄 저장
-        if (successCount > 0) {
-            couponRepository.saveAll(expiredCoupons);
+        } catch (Exception e) {
+            progress.totalCount += couponIds.size();
+            progress.errorCount += couponIds.size();
+            String errorMsg = String.format("쿠폰 만료 청크 처리 실패: from=%s, to=%s, error=%s",
+                couponIds.get(0), couponIds.get(couponIds.size() - 1), e.getMessage());
+            if (progress.errorMessages.size() < MAX_ERROR_MESSAGES) {
+                progress.errorMessages.add(errorMsg);
+            }
+            log.error(errorMsg, e);
+            return false;
         }
+    }
 
-        // Record 생성 방법 수정 - builder() 사용
-        return new CouponExpiryResult(
-            successCount + errorCount,
-            successCount,
-            errorCount,
-            totalExpiredAmount,
-            errorMessages,
-            LocalDateTime.now()
-        );
+    private void recordProgress(String jobId, Progress progress) {
+        batchJobLogService.recordProgress(jobId, progress.totalCount, progress.successCount,
+            progress.errorCount, Map.of(
+                CHECKPOINT_LAST_COUPON_ID, progress.lastCouponId,
+                CHECKPOINT_EXPIRED_AMOUNT, progress.totalExpiredAmount.toPlainString()
+            ));
+    }
+
+    /**
+     * 커밋된 청크의 Redis 잔액 캐시 비동기 일괄 삭제 (실패해도 TTL로 정리되므로 배치는 계속 진행)
+     */
+    private CompletableFuture<Long> clearBalancesAsync(List<String> couponIds) {
+        List<String> ids = List.copyOf(couponIds);
+        return CompletableFuture.supplyAsync(() -> balanceService.clearBalances(ids), redisBulkExecutor)
+            .exceptionally(e -> {
+                log.warn("쿠폰 잔액 캐시 일괄 삭제 실패: size={}, error={}", ids.size(), e.getMessage());
+                return 0L;
+            });
+    }
+
+    private long awaitClears(List<CompletableFuture<Long>> pendingClears) {
+        return pendingClears.stream()
+            .mapToLong(CompletableFuture::join)
+            .sum();
     }
 
     /**
@@ -152,5 +269,31 @@ public class CouponExpiryService {
         }
     }
 
+    /**
+     * 배치 진행 상황 (BatchJobLog 체크포인트로부터 복원 가능)
+     * 이전 실행의 실패 청크는 재개 시 다시 처리되므로 실패 건수는 복원하지 않는다 (재시도 청크 중복 집계 방지)
+     */
+    private static class Progress {
+
+        private String lastCouponId;
+        private BigDecimal totalExpiredAmount;
+        private int totalCount;
+        private int successCount;
+        private int errorCount;
+        private final List<String> errorMessages = new ArrayList<>();
+        private final List<CompletableFuture<Long>> pendingClears = new ArrayList<>();
 
+        private static Progress resumeFrom(BatchJobLog batchLog) {
+            Map<String, Object> checkpoint = batchLog.getParameters() != null ? batchLog.getParameters() : Map.of();
+
+            Progress progress = new Progress();
+            progress.lastCouponId = (String) checkpoint.getOrDefault(CHECKPOINT_LAST_COUPON_ID, "");
+            progress.totalExpiredAmount = new BigDecimal(
+                String.valueOf(checkpoint.getOrDefault(CHECKPOINT_EXPIRED_AMOUNT, "0")));
+            progress.successCount = batchLog.getSuccessCount() != null ? batchLog.getSuccessCount() : 0;
+            progress.totalCount = progress.successCount;
+            progress.errorCount = 0;
+            return progress;
+        }
+    }
 }
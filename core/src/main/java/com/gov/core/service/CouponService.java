@@ -3,7 +3,6 @@ package com.gov.core.service;
 import com.gov.core.entity.Coupon;
 import com.gov.core.entity.User;
 import com.gov.core.repository.CouponRepository;
-import com.gov.core.repository.UserRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -19,14 +18,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CouponService {
 
     private final CouponRepository couponRepository;
-    private final UserRepository userRepository;
     private final CouponBalanceService balanceService;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final CouponExpiryScheduleService expiryScheduleService;
 
     /**
      * 사용자의 활성 쿠폰 목록 조회
      */
     public List<Coupon> getActiveCoupons(String userId) {
-        User user = userRepository.findById(userId)
+        User user = referenceDataCacheService.findUser(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
         List<Coupon> coupons = couponRepository.findActiveByUserId(user, LocalDate.now());
@@ -36,7 +36,7 @@ public class CouponService {
             BigDecimal redisBalance = balanceService.getBalance(coupon.getCouponId());
             if (redisBalance.compareTo(BigDecimal.ZERO) == 0) {
                 // Redis에 잔액이 없으면 DB 기준으로 초기화
-                balanceService.initializeBalance(coupon.getCouponId(), coupon.getRemainingAmount());
+                cacheBalance(coupon);
             }
         });
 
@@ -54,7 +54,7 @@ public class CouponService {
         // Redis 잔액 동기화
         BigDecimal redisBalance = balanceService.getBalance(couponId);
         if (redisBalance.compareTo(BigDecimal.ZERO) == 0) {
-            balanceService.initializeBalance(couponId, coupon.getRemainingAmount());
+            cacheBalance(coupon);
         }
 
         log.info("쿠폰 상세 조회: couponId={}, userId={}", couponId, userId);
@@ -178,8 +178,16 @@ public class CouponService {
         Coupon coupon = couponRepository.findById(couponId)
             .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
 
-        balanceService.syncBalance(couponId, coupon.getRemainingAmount());
+        balanceService.syncBalance(couponId, coupon.getRemainingAmount(), coupon.getExpiryDate());
+        expiryScheduleService.schedule(couponId, coupon.getExpiryDate());
         log.info("쿠폰 잔액 동기화 완료: couponId={}, balance={}", couponId, coupon.getRemainingAmount());
     }
 
+    /**
+     * DB 잔액을 Redis에 적재하고 만료 스케줄 인덱스에 등록
+     */
+    private void cacheBalance(Coupon coupon) {
+        balanceService.initializeBalance(coupon.getCouponId(), coupon.getRemainingAmount(), coupon.getExpiryDate());
+        expiryScheduleService.schedule(coupon.getCouponId(), coupon.getExpiryDate());
+    }
 }
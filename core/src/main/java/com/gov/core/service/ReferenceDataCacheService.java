@@ -0,0 +1,195 @@
+package com.gov.core.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.gov.core.entity.Merchant;
+import com.gov.core.entity.User;
+import com.gov.core.repository.MerchantRepository;
+import com.gov.core.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가맹점/사용자 참조 데이터 로컬 캐시
+ * 거의 변경되지 않는 참조 데이터를 결제/정산 경로에서 DB 조회 없이 제공
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ReferenceDataCacheService {
+
+    private final MerchantRepository merchantRepository;
+    private final UserRepository userRepository;
+
+    private final Cache<String, Merchant> merchantCache;
+    private final Cache<String, User> userCache;
+
+    private final int userPreloadLimit;
+
+    public ReferenceDataCacheService(MerchantRepository merchantRepository,
+        UserRepository userRepository,
+        MeterRegistry meterRegistry,
+        @Value("${reference-cache.ttl:10m}") Duration ttl,
+        @Value("${reference-cache.merchant-max-size:50000}") long merchantMaxSize,
+        @Value("${reference-cache.user-max-size:200000}") long userMaxSize,
+        @Value("${reference-cache.user-preload-limit:10000}") int userPreloadLimit) {
+        this.merchantRepository = merchantRepository;
+        this.userRepository = userRepository;
+        this.userPreloadLimit = userPreloadLimit;
+
+        this.merchantCache = Caffeine.newBuilder()
+            .maximumSize(merchantMaxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+        this.userCache = Caffeine.newBuilder()
+            .maximumSize(userMaxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+        // 적중률 메트릭 노출 (cache.gets{result=hit|miss}, cache.evictions 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, merchantCache, "reference.merchant");
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "reference.user");
+    }
+
+    /**
+     * 가맹점 조회 (캐시 우선)
+     */
+    public Optional<Merchant> findMerchant(String merchantId) {
+        if (merchantId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(merchantCache.get(merchantId,
+            id -> merchantRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 사용자 조회 (캐시 우선)
+     */
+    public Optional<User> findUser(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(userCache.get(userId,
+            id -> userRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 가맹점 일괄 조회 - 캐시에 없는 ID만 한 번의 IN 쿼리로 조회
+     */
+    public Map<String, Merchant> findMerchants(Collection<String> merchantIds) {
+        if (merchantIds == null || merchantIds.isEmpty()) {
+            return Map.of();
+        }
+        return merchantCache.getAll(merchantIds, missing ->
+            merchantRepository.findAllById(missing).stream()
+                .collect(Collectors.toMap(Merchant::getMerchantId, Function.identity())));
+    }
+
+    /**
+     * 사용자 일괄 조회 - 캐시에 없는 ID만 한 번의 IN 쿼리로 조회
+     */
+    public Map<String, User> findUsers(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userCache.getAll(userIds, missing ->
+            userRepository.findAllById(missing).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity())));
+    }
+
+    /**
+     * 기동 시 참조 데이터 일괄 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadOnStartup() {
+        try {
+            preloadAll();
+        } catch (Exception e) {
+            log.warn("참조 데이터 캐시 사전 적재 실패, 요청 시 적재로 동작: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 참조 데이터 일괄 적재
+     * 가맹점은 전체, 사용자는 user-preload-limit 건까지 적재
+     */
+    public Map<String, Integer> preloadAll() {
+        List<Merchant> merchants = merchantRepository.findAll();
+        merchants.forEach(merchant -> merchantCache.put(merchant.getMerchantId(), merchant));
+
+        int loadedUsers = 0;
+        int page = 0;
+        while (loadedUsers < userPreloadLimit) {
+            int pageSize = Math.min(1000, userPreloadLimit - loadedUsers);
+            Page<User> users = userRepository.findAll(PageRequest.of(page++, pageSize));
+            users.forEach(user -> userCache.put(user.getUserId(), user));
+            loadedUsers += users.getNumberOfElements();
+            if (!users.hasNext()) {
+                break;
+            }
+        }
+
+        log.info("참조 데이터 캐시 적재 완료: merchants={}, users={}", merchants.size(), loadedUsers);
+
+        Map<String, Integer> result = new HashMap<>();
+        result.put("merchants", merchants.size());
+        result.put("users", loadedUsers);
+        return result;
+    }
+
+    public void invalidateMerchant(String merchantId) {
+        merchantCache.invalidate(merchantId);
+        log.info("가맹점 캐시 무효화: merchantId={}", merchantId);
+    }
+
+    public void invalidateUser(String userId) {
+        userCache.invalidate(userId);
+        log.info("사용자 캐시 무효화: userId={}", userId);
+    }
+
+    public void invalidateAll() {
+        merchantCache.invalidateAll();
+        userCache.invalidateAll();
+        log.info("참조 데이터 캐시 전체 무효화");
+    }
+
+    /**
+     * 캐시 통계 (관리용)
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("merchant", toStatMap(merchantCache.stats(), merchantCache.estimatedSize()));
+        stats.put("user", toStatMap(userCache.stats(), userCache.estimatedSize()));
+        return stats;
+    }
+
+    private Map<String, Object> toStatMap(CacheStats cacheStats, long size) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("size", size);
+        map.put("hitCount", cacheStats.hitCount());
+        map.put("missCount", cacheStats.missCount());
+        map.put("hitRate", cacheStats.hitRate());
+        map.put("evictionCount", cacheStats.evictionCount());
+        return map;
+    }
+}
@@ -0,0 +1,200 @@
+package com.gov.core.redis.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gov.core.entity.Merchant.MerchantCategory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class BinaryOutputInputTest {
+
+    @Test
+    void 정수_varint_zigzag_왕복() {
+        long[] values = {0, 1, -1, 63, -64, 64, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Long.MAX_VALUE, Long.MIN_VALUE};
+
+        BinaryOutput out = new BinaryOutput(1);
+        for (long value : values) {
+            out.writeSignedVarLong(value);
+        }
+        out.writeVarLong(-1L);
+        out.writeVarInt(-1);
+
+        BinaryInput in = input(out);
+        for (long value : values) {
+            assertThat(in.readSignedVarLong()).isEqualTo(value);
+        }
+        assertThat(in.readVarLong()).isEqualTo(-1L);
+        assertThat(in.readVarInt()).isEqualTo(-1);
+        assertThat(in.remaining()).isZero();
+    }
+
+    @Test
+    void 작은_절대값은_1바이트로_기록() {
+        BinaryOutput out = new BinaryOutput();
+        out.writeSignedVarLong(-64);
+        out.writeSignedVarLong(63);
+
+        assertThat(out.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 문자열_null_빈값_ASCII_멀티바이트_왕복() {
+        BinaryOutput out = new BinaryOutput(1);
+        out.writeString(null);
+        out.writeString("");
+        out.writeString("MERCHANT_001");
+        out.writeString("스타벅스 강남점");
+
+        BinaryInput in = input(out);
+        assertThat(in.readString()).isNull();
+        assertThat(in.readString()).isEmpty();
+        assertThat(in.readString()).isEqualTo("MERCHANT_001");
+        assertThat(in.readString()).isEqualTo("스타벅스 강남점");
+        assertThat(in.remaining()).isZero();
+    }
+
+    @Test
+    void 열거형_null_왕복() {
+        BinaryOutput out = new BinaryOutput();
+        out.writeEnum(null);
+        out.writeEnum(MerchantCategory.COFFEE);
+        out.writeEnum(MerchantCategory.RESTAURANT);
+
+        BinaryInput in = input(out);
+        MerchantCategory[] constants = MerchantCategory.values();
+        assertThat(in.readEnum(constants)).isNull();
+        assertThat(in.readEnum(constants)).isEqualTo(MerchantCategory.COFFEE);
+        assertThat(in.readEnum(constants)).isEqualTo(MerchantCategory.RESTAURANT);
+    }
+
+    @Test
+    void 범위를_벗어난_열거형은_예외() {
+        BinaryOutput out = new BinaryOutput();
+        out.writeVarInt(MerchantCategory.values().length + 1);
+
+        assertThatThrownBy(() -> input(out).readEnum(MerchantCategory.values()))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void 금액_null_음수스케일_long범위_왕복() {
+        BigDecimal[] values = {
+            new BigDecimal("0"),
+            new BigDecimal("10000.00"),
+            new BigDecimal("-12345.6789"),
+            new BigDecimal("1E+5"),
+            new BigDecimal("-3E+12"),
+            BigDecimal.valueOf(Long.MAX_VALUE, 2),
+            BigDecimal.valueOf(Long.MIN_VALUE, -3)
+        };
+
+        BinaryOutput out = new BinaryOutput(1);
+        out.writeDecimal(null);
+        for (BigDecimal value : values) {
+            out.writeDecimal(value);
+        }
+
+        BinaryInput in = input(out);
+        assertThat(in.readDecimal()).isNull();
+        for (BigDecimal value : values) {
+            BigDecimal decoded = in.readDecimal();
+            assertThat(decoded).isEqualTo(value);
+            assertThat(decoded.scale()).isEqualTo(value.scale());
+        }
+        assertThat(in.remaining()).isZero();
+    }
+
+    @Test
+    void 금액_63비트_초과_unscaled_왕복() {
+        BigDecimal positive = new BigDecimal("123456789012345678901234567890.123456789");
+        BigDecimal negative = new BigDecimal("-9223372036854775809");
+        BigDecimal negativeScale = new BigDecimal("98765432109876543210E+7");
+        assertThat(positive.unscaledValue().bitLength()).isGreaterThanOrEqualTo(64);
+        assertThat(negative.unscaledValue().bitLength()).isGreaterThanOrEqualTo(64);
+        assertThat(negativeScale.scale()).isNegative();
+
+        BinaryOutput out = new BinaryOutput();
+        out.writeDecimal(positive);
+        out.writeDecimal(negative);
+        out.writeDecimal(negativeScale);
+
+        byte[] bytes = out.toByteArray();
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+
+        BinaryInput in = new BinaryInput(bytes, 0, bytes.length);
+        assertThat(in.readDecimal()).isEqualTo(positive);
+        assertThat(in.readDecimal()).isEqualTo(negative);
+        BigDecimal decoded = in.readDecimal();
+        assertThat(decoded).isEqualTo(negativeScale);
+        assertThat(decoded.scale()).isEqualTo(negativeScale.scale());
+        assertThat(in.remaining()).isZero();
+    }
+
+    @Test
+    void 일시_날짜_null_경계값_왕복() {
+        LocalDateTime[] dateTimes = {
+            LocalDateTime.of(2024, 3, 15, 9, 30, 0),
+            LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1)
+        };
+        LocalDate[] dates = {
+            LocalDate.of(2024, 2, 29),
+            LocalDate.of(1970, 1, 1),
+            LocalDate.of(1900, 1, 1)
+        };
+
+        BinaryOutput out = new BinaryOutput(1);
+        out.writeDateTime(null);
+        for (LocalDateTime value : dateTimes) {
+            out.writeDateTime(value);
+        }
+        out.writeDate(null);
+        for (LocalDate value : dates) {
+            out.writeDate(value);
+        }
+
+        BinaryInput in = input(out);
+        assertThat(in.readDateTime()).isNull();
+        for (LocalDateTime value : dateTimes) {
+            assertThat(in.readDateTime()).isEqualTo(value);
+        }
+        assertThat(in.readDate()).isNull();
+        for (LocalDate value : dates) {
+            assertThat(in.readDate()).isEqualTo(value);
+        }
+        assertThat(in.remaining()).isZero();
+    }
+
+    @Test
+    void 오프셋_구간만_읽는다() {
+        BinaryOutput out = new BinaryOutput();
+        out.writeByte(0x7F);
+        out.writeString("body");
+        out.writeByte(0x7F);
+
+        byte[] bytes = out.toByteArray();
+        BinaryInput in = new BinaryInput(bytes, 1, bytes.length - 2);
+        assertThat(in.readString()).isEqualTo("body");
+        assertThat(in.remaining()).isZero();
+    }
+
+    @Test
+    void 잘린_값은_예외() {
+        BinaryOutput out = new BinaryOutput();
+        out.writeString("truncated");
+
+        byte[] bytes = out.toByteArray();
+        BinaryInput in = new BinaryInput(bytes, 0, bytes.length - 1);
+        assertThatThrownBy(in::readString).isInstanceOf(SerializationException.class);
+    }
+
+    private static BinaryInput input(BinaryOutput out) {
+        byte[] bytes = out.toByteArray();
+        return new BinaryInput(bytes, 0, bytes.length);
+    }
+}
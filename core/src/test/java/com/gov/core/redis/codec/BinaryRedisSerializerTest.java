@@ -0,0 +1,212 @@
+package com.gov.core.redis.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gov.core.dto.MerchantSnapshot;
+import com.gov.core.entity.Merchant.MerchantCategory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class BinaryRedisSerializerTest {
+
+    private static final int THRESHOLD = 64;
+
+    @Test
+    void 모든_필드_타입_왕복() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+        Sample sample = new Sample(
+            "PAY_001",
+            MerchantCategory.COFFEE,
+            new BigDecimal("4500.00"),
+            LocalDateTime.of(2024, 3, 15, 9, 30, 0, 123_000_000),
+            LocalDate.of(2024, 3, 15)
+        );
+
+        byte[] bytes = serializer.serialize(sample);
+
+        assertThat(bytes[0] & 0xFF).isEqualTo(1);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(sample);
+    }
+
+    @Test
+    void null_필드_왕복() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+        Sample sample = new Sample(null, null, null, null, null);
+
+        byte[] bytes = serializer.serialize(sample);
+
+        // 헤더 + 필드마다 1바이트
+        assertThat(bytes).hasSize(6);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(sample);
+    }
+
+    @Test
+    void null_값과_빈_바이트는_null() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+
+        assertThat(serializer.serialize(null)).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void 음수스케일과_63비트_초과_금액_왕복() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), 0);
+        Sample negativeScale = new Sample("A", null, new BigDecimal("1E+5"), null, null);
+        Sample big = new Sample("B", null, new BigDecimal("-123456789012345678901234567890.5"), null, null);
+
+        Sample decodedNegativeScale = serializer.deserialize(serializer.serialize(negativeScale));
+        Sample decodedBig = serializer.deserialize(serializer.serialize(big));
+
+        assertThat(decodedNegativeScale.amount().scale()).isEqualTo(-5);
+        assertThat(decodedNegativeScale).isEqualTo(negativeScale);
+        assertThat(decodedBig).isEqualTo(big);
+    }
+
+    @Test
+    void 임계값_이상의_반복_본문은_압축() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+        Sample sample = new Sample("가맹점".repeat(200), MerchantCategory.SUPERMARKET,
+            new BigDecimal("1E+5"), LocalDateTime.of(2024, 1, 1, 0, 0), LocalDate.of(2024, 1, 1));
+
+        byte[] bytes = serializer.serialize(sample);
+
+        assertThat(bytes[0] & 0x80).isEqualTo(0x80);
+        assertThat(bytes[0] & 0x7F).isEqualTo(1);
+        assertThat(bytes.length).isLessThan(uncompressedSize(sample));
+        assertThat(serializer.deserialize(bytes)).isEqualTo(sample);
+    }
+
+    @Test
+    void 임계값_미만이면_압축하지_않음() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+        Sample sample = new Sample("x".repeat(THRESHOLD / 2), null, null, null, null);
+
+        byte[] bytes = serializer.serialize(sample);
+
+        assertThat(bytes[0] & 0x80).isZero();
+        assertThat(bytes).hasSize(uncompressedSize(sample));
+    }
+
+    @Test
+    void 압축해도_줄지_않는_본문은_원본_저장() {
+        BinaryRedisSerializer<byte[]> serializer = new BinaryRedisSerializer<>(new RawCodec(), THRESHOLD);
+        byte[] payload = new byte[THRESHOLD * 4];
+        new Random(42).nextBytes(payload);
+
+        byte[] bytes = serializer.serialize(payload);
+
+        assertThat(bytes[0] & 0x80).isZero();
+        assertThat(bytes).hasSize(1 + 2 + payload.length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(payload);
+    }
+
+    @Test
+    void 스키마_버전이_다르면_캐시_미스() {
+        BinaryRedisSerializer<Sample> v1 = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+        BinaryRedisSerializer<Sample> v2 = new BinaryRedisSerializer<>(new SampleCodec(2), THRESHOLD);
+        Sample small = new Sample("PAY_001", null, null, null, null);
+        Sample large = new Sample("PAY_".repeat(100), null, null, null, null);
+
+        assertThat(v2.deserialize(v1.serialize(small))).isNull();
+        assertThat(v2.deserialize(v1.serialize(large))).isNull();
+    }
+
+    @Test
+    void 손상된_압축_본문은_예외() {
+        BinaryRedisSerializer<Sample> serializer = new BinaryRedisSerializer<>(new SampleCodec(1), THRESHOLD);
+        byte[] bytes = serializer.serialize(new Sample("PAY_".repeat(100), null, null, null, null));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void 범위를_벗어난_스키마_버전은_거부() {
+        assertThatThrownBy(() -> new BinaryRedisSerializer<>(new SampleCodec(0), THRESHOLD))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BinaryRedisSerializer<>(new SampleCodec(128), THRESHOLD))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 가맹점_스냅샷_코덱_왕복() {
+        BinaryRedisSerializer<MerchantSnapshot> serializer =
+            new BinaryRedisSerializer<>(new MerchantSnapshotCodec(), THRESHOLD);
+        MerchantSnapshot snapshot = new MerchantSnapshot("MERCHANT_001", "스타벅스 강남점", MerchantCategory.COFFEE);
+        MerchantSnapshot empty = new MerchantSnapshot("MERCHANT_002", null, null);
+
+        assertThat(serializer.deserialize(serializer.serialize(snapshot))).isEqualTo(snapshot);
+        assertThat(serializer.deserialize(serializer.serialize(empty))).isEqualTo(empty);
+    }
+
+    private static int uncompressedSize(Sample sample) {
+        BinaryOutput out = new BinaryOutput();
+        new SampleCodec(1).encode(sample, out);
+        return out.size() + 1;
+    }
+
+    private record Sample(
+        String id,
+        MerchantCategory category,
+        BigDecimal amount,
+        LocalDateTime createdAt,
+        LocalDate businessDate
+    ) {
+    }
+
+    private record SampleCodec(int schemaVersion) implements BinaryCodec<Sample> {
+
+        @Override
+        public void encode(Sample value, BinaryOutput out) {
+            out.writeString(value.id());
+            out.writeEnum(value.category());
+            out.writeDecimal(value.amount());
+            out.writeDateTime(value.createdAt());
+            out.writeDate(value.businessDate());
+        }
+
+        @Override
+        public Sample decode(BinaryInput in) {
+            return new Sample(
+                in.readString(),
+                in.readEnum(MerchantCategory.values()),
+                in.readDecimal(),
+                in.readDateTime(),
+                in.readDate()
+            );
+        }
+    }
+
+    /**
+     * 길이 + 원시 바이트 (압축되지 않는 본문 확인용)
+     */
+    private static final class RawCodec implements BinaryCodec<byte[]> {
+
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public void encode(byte[] value, BinaryOutput out) {
+            out.writeVarInt(value.length);
+            out.writeBytes(value);
+        }
+
+        @Override
+        public byte[] decode(BinaryInput in) {
+            byte[] value = new byte[in.readVarInt()];
+            for (int i = 0; i < value.length; i++) {
+                value[i] = (byte) in.readByte();
+            }
+            return value;
+        }
+    }
+}
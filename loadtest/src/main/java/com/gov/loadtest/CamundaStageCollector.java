@@ -0,0 +1,59 @@
+package com.gov.loadtest;
+
+import com.gov.loadtest.LoadGenerator.RunWindow;
+import java.util.Date;
+import java.util.List;
+import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+
+/**
+ * 측정 구간에 시작된 프로세스의 서비스 태스크별 / 프로세스 전체 소요 시간을 이력에서 수집
+ */
+public class CamundaStageCollector {
+
+    public static final String STAGE_PREFIX = "camunda.";
+    public static final String STAGE_PROCESS = "camunda.process";
+
+    private static final int PAGE_SIZE = 5000;
+
+    private final HistoryService historyService;
+
+    public CamundaStageCollector(HistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    public void collect(RunWindow window, StageRecorder recorder) {
+        Date from = Date.from(window.measureStart());
+        Date to = Date.from(window.measureEnd());
+
+        for (int first = 0; ; first += PAGE_SIZE) {
+            List<HistoricActivityInstance> activities = historyService.createHistoricActivityInstanceQuery()
+                .activityType(ActivityTypes.TASK_SERVICE)
+                .startedAfter(from)
+                .startedBefore(to)
+                .finished()
+                .listPage(first, PAGE_SIZE);
+
+            activities.forEach(activity -> recorder.recordMillis(
+                STAGE_PREFIX + activity.getActivityId(), activity.getDurationInMillis()));
+            if (activities.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+
+        for (int first = 0; ; first += PAGE_SIZE) {
+            List<HistoricProcessInstance> processes = historyService.createHistoricProcessInstanceQuery()
+                .startedAfter(from)
+                .startedBefore(to)
+                .finished()
+                .listPage(first, PAGE_SIZE);
+
+            processes.forEach(process -> recorder.recordMillis(STAGE_PROCESS, process.getDurationInMillis()));
+            if (processes.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.gov.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청별 쿠폰 선택
+ * uniform: 전체 쿠폰 균등 / hot: hotTrafficRatio 비율의 요청을 앞쪽 hotCouponCount 개 쿠폰에 집중
+ */
+public class CouponSelector {
+
+    private final int couponCount;
+    private final boolean hot;
+    private final int hotCouponCount;
+    private final double hotTrafficRatio;
+
+    public CouponSelector(LoadTestProperties properties) {
+        this.couponCount = properties.couponCount();
+        this.hot = properties.hotDistribution();
+        this.hotCouponCount = Math.max(1, Math.min(properties.hotCouponCount(), couponCount));
+        this.hotTrafficRatio = properties.hotTrafficRatio();
+    }
+
+    public int nextIndex() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (hot && random.nextDouble() < hotTrafficRatio) {
+            return random.nextInt(hotCouponCount);
+        }
+        return random.nextInt(couponCount);
+    }
+}
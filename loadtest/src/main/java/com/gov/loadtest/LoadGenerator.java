@@ -0,0 +1,200 @@
+package com.gov.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gov.loadtest.LoadTestDataSeeder.SeedData;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고정 도착률(open model) 결제 요청 생성기
+ * 지연 시간은 실제 전송 시각이 아닌 예정 도착 시각 기준으로 측정하여 coordinated omission 을 피함
+ */
+@Slf4j
+public class LoadGenerator {
+
+    public static final String STAGE_SUBMIT = "http.submit";
+    public static final String STAGE_COMPLETION = "flow.completion";
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("COMPLETED", "FAILED", "CANCELLED", "REFUNDED");
+    private static final long POLL_INTERVAL_MILLIS = 20;
+
+    private final LoadTestProperties properties;
+    private final SeedData seedData;
+    private final URI paymentsUri;
+    private final ObjectMapper objectMapper;
+    private final StageRecorder recorder;
+    private final CouponSelector couponSelector;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+    private final Semaphore inFlight;
+
+    public LoadGenerator(LoadTestProperties properties, SeedData seedData, int serverPort,
+        ObjectMapper objectMapper, StageRecorder recorder) {
+        this.properties = properties;
+        this.seedData = seedData;
+        this.paymentsUri = URI.create("http://localhost:" + serverPort + "/api/payments");
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.couponSelector = new CouponSelector(properties);
+        this.httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+            .executor(httpExecutor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        this.inFlight = new Semaphore(properties.maxInFlight());
+    }
+
+    /**
+     * 워밍업 + 측정 구간 동안 요청 생성 후 진행 중 요청이 끝날 때까지 대기
+     */
+    public RunWindow run() throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.ratePerSecond();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + properties.warmup().toNanos();
+        long endNanos = measureStartNanos + properties.duration().toNanos();
+        Instant measureStart = Instant.now().plus(properties.warmup());
+
+        log.info("부하 생성 시작: rate={}/s, warmup={}, duration={}, distribution={}",
+            properties.ratePerSecond(), properties.warmup(), properties.duration(), properties.distribution());
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            boolean measured = intendedNanos >= measureStartNanos;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    recorder.countOutcome("dropped");
+                }
+                continue;
+            }
+            submit(intendedNanos, measured).whenComplete((ignored, error) -> inFlight.release());
+        }
+
+        Instant measureEnd = Instant.now();
+        long drainSeconds = properties.completionTimeout().toSeconds() + 10;
+        if (!inFlight.tryAcquire(properties.maxInFlight(), drainSeconds, TimeUnit.SECONDS)) {
+            log.warn("진행 중 요청 대기 시간 초과: remaining={}", properties.maxInFlight() - inFlight.availablePermits());
+        }
+        httpExecutor.shutdown();
+
+        return new RunWindow(measureStart, measureEnd, properties.duration().toMillis() / 1000.0);
+    }
+
+    private CompletableFuture<Void> submit(long intendedNanos, boolean measured) {
+        int index = couponSelector.nextIndex();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", seedData.couponOwners().get(index));
+        body.put("merchantId", seedData.merchantIds().get(ThreadLocalRandom.current().nextInt(seedData.merchantIds().size())));
+        body.put("couponId", seedData.couponIds().get(index));
+        body.put("amount", properties.amount());
+
+        HttpRequest request = HttpRequest.newBuilder(paymentsUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+            .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenCompose(response -> {
+                if (response.statusCode() != 200) {
+                    if (measured) {
+                        recorder.countOutcome("http_" + response.statusCode());
+                    }
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                if (measured) {
+                    recorder.recordNanos(STAGE_SUBMIT, System.nanoTime() - intendedNanos);
+                }
+
+                JsonNode payment = parse(response.body());
+                long deadlineNanos = System.nanoTime() + properties.completionTimeout().toNanos();
+                return awaitTerminal(payment.path("paymentId").asText(), payment.path("status").asText(), deadlineNanos)
+                    .thenAccept(status -> {
+                        if (!measured) {
+                            return;
+                        }
+                        if (status == null) {
+                            recorder.countOutcome("timeout");
+                            return;
+                        }
+                        recorder.recordNanos(STAGE_COMPLETION, System.nanoTime() - intendedNanos);
+                        recorder.countOutcome(status);
+                    });
+            })
+            .exceptionally(error -> {
+                if (measured) {
+                    recorder.countOutcome("error");
+                }
+                log.debug("결제 요청 실패: {}", error.getMessage());
+                return null;
+            });
+    }
+
+    /**
+     * PENDING 상태에서 종료 상태가 될 때까지 조회 반복 (시간 초과 시 null)
+     */
+    private CompletableFuture<String> awaitTerminal(String paymentId, String status, long deadlineNanos) {
+        if (TERMINAL_STATUSES.contains(status)) {
+            return CompletableFuture.completedFuture(status);
+        }
+        if (System.nanoTime() > deadlineNanos) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(paymentsUri.resolve("/api/payments/" + paymentId)).GET().build();
+        return CompletableFuture
+            .runAsync(() -> { }, CompletableFuture.delayedExecutor(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, httpExecutor))
+            .thenCompose(ignored -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+            .thenCompose(response -> awaitTerminal(paymentId,
+                response.statusCode() == 200 ? parse(response.body()).path("status").asText() : status,
+                deadlineNanos));
+    }
+
+    private String toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 측정 구간 (Camunda 이력 조회 범위로도 사용)
+     */
+    public record RunWindow(Instant measureStart, Instant measureEnd, double measuredSeconds) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.gov.loadtest;
+
+import com.gov.core.config.RedisConfig;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.FullyQualifiedAnnotationBeanNameGenerator;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 부하 테스트용 결제 애플리케이션 구성
+ * core/payment 에 같은 이름의 설정 클래스가 있어 FQCN 기반 빈 이름을 사용
+ * core 의 RedisConfig 는 결제 모듈 RedisConfig 와 같은 빈(redisTemplate, redissonClient)을 정의하므로 제외 -
+ * 빈 덮어쓰기(스캔 순서)에 의존하지 않고 항상 결제 모듈의 계측된 Redis 구성으로 측정
+ */
+@SpringBootApplication
+@ComponentScan(
+    basePackages = "com.gov",
+    nameGenerator = FullyQualifiedAnnotationBeanNameGenerator.class,
+    excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = RedisConfig.class)
+    })
+@EntityScan(basePackages = "com.gov")
+@EnableJpaRepositories(basePackages = "com.gov.payment.repository")
+public class LoadTestApplication {
+}
@@ -0,0 +1,97 @@
+package com.gov.loadtest;
+
+import com.gov.core.entity.Coupon;
+import com.gov.core.entity.Merchant;
+import com.gov.core.entity.Merchant.MerchantCategory;
+import com.gov.core.entity.User;
+import com.gov.core.repository.CouponRepository;
+import com.gov.core.repository.MerchantRepository;
+import com.gov.core.repository.UserRepository;
+import com.gov.core.service.CouponBalanceService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트 기초 데이터 적재 (사용자/가맹점/쿠폰 + Redis 잔액)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestDataSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    // hot 쿠폰에 요청이 몰려도 잔액 부족으로 실패하지 않도록 충분히 큰 금액
+    private static final BigDecimal COUPON_AMOUNT = new BigDecimal("1000000000");
+
+    private final UserRepository userRepository;
+    private final MerchantRepository merchantRepository;
+    private final CouponRepository couponRepository;
+    private final CouponBalanceService couponBalanceService;
+
+    public SeedData seed(LoadTestProperties properties) {
+        List<String> userIds = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < properties.userCount(); i++) {
+            String userId = String.format("LT_USER_%06d", i);
+            userIds.add(userId);
+            users.add(User.builder().userId(userId).name("부하테스트" + i).phone("010-0000-0000").build());
+        }
+        saveInBatches(users, userRepository::saveAll);
+
+        List<String> merchantIds = new ArrayList<>();
+        List<Merchant> merchants = new ArrayList<>();
+        MerchantCategory[] categories = MerchantCategory.values();
+        for (int i = 0; i < properties.merchantCount(); i++) {
+            String merchantId = String.format("LT_MERCHANT_%04d", i);
+            merchantIds.add(merchantId);
+            merchants.add(Merchant.builder()
+                .merchantId(merchantId)
+                .merchantName("부하테스트 가맹점 " + i)
+                .category(categories[i % categories.length])
+                .build());
+        }
+        saveInBatches(merchants, merchantRepository::saveAll);
+
+        List<String> couponIds = new ArrayList<>();
+        List<String> couponOwners = new ArrayList<>();
+        List<Coupon> coupons = new ArrayList<>();
+        LocalDate expiryDate = LocalDate.now().plusDays(30);
+        for (int i = 0; i < properties.couponCount(); i++) {
+            String couponId = String.format("LT_COUPON_%06d", i);
+            User owner = users.get(i % users.size());
+            couponIds.add(couponId);
+            couponOwners.add(owner.getUserId());
+            coupons.add(Coupon.builder()
+                .couponId(couponId)
+                .user(owner)
+                .originalAmount(COUPON_AMOUNT)
+                .remainingAmount(COUPON_AMOUNT)
+                .expiryDate(expiryDate)
+                .build());
+        }
+        saveInBatches(coupons, couponRepository::saveAll);
+        couponIds.forEach(couponId -> couponBalanceService.initializeBalance(couponId, COUPON_AMOUNT, expiryDate));
+
+        log.info("부하 테스트 데이터 적재 완료: users={}, merchants={}, coupons={}",
+            users.size(), merchants.size(), coupons.size());
+        return new SeedData(merchantIds, couponIds, couponOwners);
+    }
+
+    private <T> void saveInBatches(List<T> entities, Consumer<List<T>> saver) {
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            saver.accept(entities.subList(from, Math.min(from + BATCH_SIZE, entities.size())));
+        }
+    }
+
+    /**
+     * couponOwners 는 couponIds 와 같은 순서의 소유자 ID
+     */
+    public record SeedData(List<String> merchantIds, List<String> couponIds, List<String> couponOwners) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.gov.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gov.loadtest.LoadGenerator.RunWindow;
+import com.gov.loadtest.LoadTestDataSeeder.SeedData;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.HistoryService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 결제 흐름 부하 테스트 진입점
+ * 내장 Redis + H2 로 결제 애플리케이션을 같은 JVM 에서 기동한 뒤 POST /api/payments 로 부하를 건다
+ */
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = LoadTestProperties.fromSystemProperties();
+
+        try (LocalRedis redis = LocalRedis.start()) {
+            // 시스템 프로퍼티는 application.yml 보다 우선 (기본 dev 프로필 대체)
+            System.setProperty("spring.profiles.active", "loadtest");
+            System.setProperty("spring.data.redis.host", redis.host());
+            System.setProperty("spring.data.redis.port", String.valueOf(redis.port()));
+
+            ConfigurableApplicationContext context = SpringApplication.run(LoadTestApplication.class, args);
+            try {
+                int serverPort = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+                ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+                SeedData seedData = context.getBean(LoadTestDataSeeder.class).seed(properties);
+
+                StageRecorder recorder = new StageRecorder();
+                RunWindow window = new LoadGenerator(properties, seedData, serverPort, objectMapper, recorder).run();
+
+                new CamundaStageCollector(context.getBean(HistoryService.class)).collect(window, recorder);
+                new LoadTestReport(objectMapper).write(properties, window, recorder);
+
+            } finally {
+                context.close();
+            }
+        }
+    }
+}
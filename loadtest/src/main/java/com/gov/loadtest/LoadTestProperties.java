@@ -0,0 +1,52 @@
+package com.gov.loadtest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 load.*)
+ *
+ * @param ratePerSecond     초당 요청 도착률 (open model)
+ * @param distribution      쿠폰 선택 분포 - uniform | hot
+ * @param hotCouponCount    hot 분포에서 집중되는 쿠폰 수
+ * @param hotTrafficRatio   hot 쿠폰으로 향하는 요청 비율
+ * @param maxInFlight       동시 진행 요청 상한 (초과 시 drop 으로 집계)
+ */
+public record LoadTestProperties(
+    int ratePerSecond,
+    Duration duration,
+    Duration warmup,
+    int userCount,
+    int merchantCount,
+    int couponCount,
+    String distribution,
+    int hotCouponCount,
+    double hotTrafficRatio,
+    int maxInFlight,
+    Duration completionTimeout,
+    BigDecimal amount,
+    String reportDir
+) {
+
+    public static LoadTestProperties fromSystemProperties() {
+        return new LoadTestProperties(
+            Integer.parseInt(System.getProperty("load.rate", "100")),
+            Duration.parse(System.getProperty("load.duration", "PT1M")),
+            Duration.parse(System.getProperty("load.warmup", "PT15S")),
+            Integer.parseInt(System.getProperty("load.users", "1000")),
+            Integer.parseInt(System.getProperty("load.merchants", "100")),
+            Integer.parseInt(System.getProperty("load.coupons", "1000")),
+            System.getProperty("load.distribution", "uniform"),
+            Integer.parseInt(System.getProperty("load.hot-coupons", "10")),
+            Double.parseDouble(System.getProperty("load.hot-ratio", "0.9")),
+            Integer.parseInt(System.getProperty("load.max-in-flight", "500")),
+            Duration.parse(System.getProperty("load.completion-timeout", "PT30S")),
+            new BigDecimal(System.getProperty("load.amount", "1000")),
+            System.getProperty("load.report-dir", "build/loadtest")
+        );
+    }
+
+    public boolean hotDistribution() {
+        return "hot".equalsIgnoreCase(distribution);
+    }
+}
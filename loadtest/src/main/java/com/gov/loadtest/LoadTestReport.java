@@ -0,0 +1,74 @@
+package com.gov.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gov.loadtest.LoadGenerator.RunWindow;
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 단계별 처리량/백분위 보고서 (콘솔 + JSON 파일)
+ */
+@Slf4j
+public class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final ObjectMapper objectMapper;
+
+    public LoadTestReport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public File write(LoadTestProperties properties, RunWindow window, StageRecorder recorder) throws IOException {
+        Map<String, Object> stages = new LinkedHashMap<>();
+        StringBuilder table = new StringBuilder(String.format("%n%-36s %10s %10s %10s %10s %10s %10s%n",
+            "stage", "count", "tps", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+
+        recorder.histograms().forEach((stage, histogram) -> {
+            Map<String, Object> stats = stageStats(histogram, window.measuredSeconds());
+            stages.put(stage, stats);
+            table.append(String.format("%-36s %10d %10.1f %10.2f %10.2f %10.2f %10.2f%n", stage,
+                histogram.getTotalCount(), (double) stats.get("throughput"),
+                (double) stats.get("p50Ms"), (double) stats.get("p99Ms"),
+                (double) stats.get("p999Ms"), (double) stats.get("maxMs")));
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("properties", properties);
+        report.put("measureStart", window.measureStart().toString());
+        report.put("measureEnd", window.measureEnd().toString());
+        report.put("outcomes", recorder.outcomes());
+        report.put("stages", stages);
+
+        File dir = new File(properties.reportDir());
+        dir.mkdirs();
+        File file = new File(dir, "loadtest-" + LocalDateTime.now().format(FILE_FORMATTER) + ".json");
+        objectMapper.writeValue(file, report);
+
+        log.info("부하 테스트 결과: outcomes={}{}", recorder.outcomes(), table);
+        log.info("부하 테스트 보고서 저장: {}", file.getAbsolutePath());
+        return file;
+    }
+
+    private Map<String, Object> stageStats(Histogram histogram, double measuredSeconds) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", histogram.getTotalCount());
+        stats.put("throughput", measuredSeconds > 0 ? histogram.getTotalCount() / measuredSeconds : 0.0);
+        stats.put("p50Ms", toMillis(histogram.getValueAtPercentile(50.0)));
+        stats.put("p99Ms", toMillis(histogram.getValueAtPercentile(99.0)));
+        stats.put("p999Ms", toMillis(histogram.getValueAtPercentile(99.9)));
+        stats.put("maxMs", toMillis(histogram.getMaxValue()));
+        return stats;
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.gov.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import redis.embedded.RedisServer;
+
+/**
+ * 부하 테스트용 내장 Redis (임의 포트)
+ * load.redis.host 지정 시 외부 Redis 사용
+ */
+public class LocalRedis implements AutoCloseable {
+
+    private final RedisServer server;
+    private final String host;
+    private final int port;
+
+    private LocalRedis(RedisServer server, String host, int port) {
+        this.server = server;
+        this.host = host;
+        this.port = port;
+    }
+
+    public static LocalRedis start() throws IOException {
+        String host = System.getProperty("load.redis.host");
+        if (host != null && !host.isBlank()) {
+            return new LocalRedis(null, host, Integer.getInteger("load.redis.port", 6379));
+        }
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = new RedisServer(port);
+        server.start();
+        return new LocalRedis(server, "localhost", port);
+    }
+
+    public String host() {
+        return host;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
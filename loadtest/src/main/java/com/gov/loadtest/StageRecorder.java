@@ -0,0 +1,48 @@
+package com.gov.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 단계별 지연 시간 히스토그램(마이크로초)과 결과 카운터
+ */
+public class StageRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public void recordNanos(String stage, long nanos) {
+        recordMicros(stage, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordMillis(String stage, long millis) {
+        recordMicros(stage, TimeUnit.MILLISECONDS.toMicros(millis));
+    }
+
+    private void recordMicros(String stage, long micros) {
+        histograms.computeIfAbsent(stage, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+            .recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void countOutcome(String outcome) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    public Map<String, Histogram> histograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,145 @@
+package com.gov.payment.camunda;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.DefaultJobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.metrics.Meter;
+import org.camunda.bpm.engine.spring.components.jobexecutor.SpringJobExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Camunda 엔진 메트릭 → Micrometer 브리지
+ * - 엔진 내장 메터(job-acquisition-attempt, job-execution-rejected, activity-instance-start 등)를
+ *   camunda.job.acquisition.attempt 형태의 카운터로 노출
+ * - 잡 실행기 스레드 풀(활성/대기열) 및 포화도 게이지
+ * - 프로세스 인스턴스 소요 시간 (히스토리 이벤트 기반)
+ */
+@Slf4j
+@Component
+public class CamundaMetricsBridge extends AbstractProcessEnginePlugin {
+
+    private static final String METRIC_PREFIX = "camunda.";
+
+    private final MeterRegistry meterRegistry;
+
+    public CamundaMetricsBridge(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl configuration) {
+        List<HistoryEventHandler> handlers = configuration.getCustomHistoryEventHandlers() != null
+            ? new ArrayList<>(configuration.getCustomHistoryEventHandlers())
+            : new ArrayList<>();
+        handlers.add(new ProcessDurationHistoryHandler(meterRegistry));
+        configuration.setCustomHistoryEventHandlers(handlers);
+    }
+
+    @Override
+    public void postProcessEngineBuild(ProcessEngine processEngine) {
+        ProcessEngineConfigurationImpl configuration =
+            (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+
+        bindEngineMeters(configuration, processEngine.getName());
+        bindJobExecutor(configuration.getJobExecutor());
+    }
+
+    private void bindEngineMeters(ProcessEngineConfigurationImpl configuration, String engineName) {
+        if (configuration.getMetricsRegistry() == null) {
+            log.warn("Camunda 메트릭 비활성화 상태 - 엔진 메트릭 브리지 생략");
+            return;
+        }
+
+        Map<String, Meter> meters = configuration.getMetricsRegistry().getDbMeters();
+        meters.forEach((name, meter) ->
+            FunctionCounter.builder(METRIC_PREFIX + name.replace('-', '.').toLowerCase(Locale.ROOT),
+                    new MeterDeltaTracker(meter), MeterDeltaTracker::total)
+                .tag("engine", engineName)
+                .register(meterRegistry));
+
+        log.info("Camunda 엔진 메트릭 브리지 등록: engine={}, meters={}", engineName, meters.size());
+    }
+
+    private void bindJobExecutor(JobExecutor jobExecutor) {
+        ThreadPoolExecutor threadPool = resolveThreadPool(jobExecutor);
+        if (threadPool == null) {
+            log.warn("Camunda 잡 실행기 스레드 풀을 확인할 수 없어 메트릭 생략: {}",
+                jobExecutor != null ? jobExecutor.getClass().getName() : null);
+            return;
+        }
+
+        new ExecutorServiceMetrics(threadPool, "camunda.job.executor", Tags.empty()).bindTo(meterRegistry);
+
+        // (활성 + 대기) / (최대 스레드 + 큐 용량) - 1 에 가까우면 거절(job-execution-rejected) 발생 구간
+        Gauge.builder("camunda.job.executor.saturation", threadPool, CamundaMetricsBridge::saturation)
+            .description("잡 실행기 포화도 (0~1)")
+            .register(meterRegistry);
+
+        if (jobExecutor != null) {
+            Gauge.builder("camunda.job.executor.active", jobExecutor, executor -> executor.isActive() ? 1 : 0)
+                .description("잡 실행기 기동 여부")
+                .register(meterRegistry);
+        }
+    }
+
+    private static ThreadPoolExecutor resolveThreadPool(JobExecutor jobExecutor) {
+        if (jobExecutor instanceof SpringJobExecutor springJobExecutor) {
+            TaskExecutor taskExecutor = springJobExecutor.getTaskExecutor();
+            if (taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+                return threadPoolTaskExecutor.getThreadPoolExecutor();
+            }
+        }
+        if (jobExecutor instanceof DefaultJobExecutor defaultJobExecutor) {
+            return defaultJobExecutor.getThreadPoolExecutor();
+        }
+        return null;
+    }
+
+    private static double saturation(ThreadPoolExecutor threadPool) {
+        int capacity = threadPool.getMaximumPoolSize() + threadPool.getQueue().size()
+            + threadPool.getQueue().remainingCapacity();
+        if (capacity <= 0) {
+            return 0.0;
+        }
+        return (double) (threadPool.getActiveCount() + threadPool.getQueue().size()) / capacity;
+    }
+
+    /**
+     * 엔진 메터는 DB 리포터가 주기적으로 getAndClear 하므로 읽을 때마다 증가분을 누적해 단조 증가 카운터로 변환
+     * 마지막 조회 이후 ~ 리포터 초기화 직전 사이 증가분은 누락될 수 있음 (조회 주기 이내)
+     */
+    static final class MeterDeltaTracker {
+
+        private final Meter meter;
+        private long lastSeen;
+        private long total;
+
+        MeterDeltaTracker(Meter meter) {
+            this.meter = meter;
+        }
+
+        synchronized double total() {
+            long current = meter.get();
+            long delta = current >= lastSeen ? current - lastSeen : current;
+            lastSeen = current;
+            total += delta;
+            return total;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.gov.payment.camunda;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+
+/**
+ * 프로세스 인스턴스 종료 히스토리 이벤트로 소요 시간 기록 (camunda.process.duration)
+ * 기본 DB 히스토리 핸들러와 함께 동작하며, 엔진 트랜잭션 안에서 호출되므로 예외를 전파하지 않음
+ */
+@Slf4j
+class ProcessDurationHistoryHandler implements HistoryEventHandler {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    ProcessDurationHistoryHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void handleEvent(HistoryEvent historyEvent) {
+        if (!(historyEvent instanceof HistoricProcessInstanceEventEntity processInstance)
+            || !historyEvent.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_END)) {
+            return;
+        }
+        try {
+            Long durationMillis = processInstance.getDurationInMillis();
+            if (durationMillis == null && processInstance.getStartTime() != null && processInstance.getEndTime() != null) {
+                durationMillis = processInstance.getEndTime().getTime() - processInstance.getStartTime().getTime();
+            }
+            if (durationMillis == null) {
+                return;
+            }
+            String processKey = processInstance.getProcessDefinitionKey();
+            String state = processInstance.getState() != null
+                ? processInstance.getState().toLowerCase(Locale.ROOT)
+                : "unknown";
+
+            timers.computeIfAbsent(processKey + "|" + state, key -> Timer.builder("camunda.process.duration")
+                    .description("프로세스 인스턴스 시작~종료 소요 시간")
+                    .tags("process", processKey, "state", state)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry))
+                .record(Math.max(0, durationMillis), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("프로세스 소요 시간 기록 실패: processInstanceId={}", processInstance.getProcessInstanceId(), e);
+        }
+    }
+
+    @Override
+    public void handleEvents(List<HistoryEvent> historyEvents) {
+        historyEvents.forEach(this::handleEvent);
+    }
+}
@@ -1,6 +1,11 @@
 package com.gov.payment.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -33,4 +38,46 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 결제 단위 정리 작업 전용 풀 (공용 ForkJoinPool 사용 금지)
+     * 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절 - 정리 작업은 주기 작업이 보완
+     */
+    @Bean(name = "cleanupExecutor")
+    public Executor cleanupExecutor(MeterRegistry meterRegistry,
+        @Value("${payment.cleanup.executor.pool-size:2}") int poolSize,
+        @Value("${payment.cleanup.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        // executor.queued, executor.active, executor.completed 등 큐 깊이 메트릭 노출
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "payment.cleanup", Tags.empty())
+            .bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 결제 상태 캐시 재검증 전용 풀 - 큐 초과 시 거절 (오래된 항목은 다음 조회에서 다시 재검증)
+     */
+    @Bean(name = "paymentCacheRefreshExecutor")
+    public Executor paymentCacheRefreshExecutor(MeterRegistry meterRegistry,
+        @Value("${payment.cache.refresh.pool-size:2}") int poolSize,
+        @Value("${payment.cache.refresh.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PaymentCache-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "payment.cache.refresh", Tags.empty())
+            .bindTo(meterRegistry);
+        return executor;
+    }
 }
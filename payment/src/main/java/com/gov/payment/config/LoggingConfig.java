@@ -0,0 +1,19 @@
+package com.gov.payment.config;
+
+import com.gov.core.logging.LogSampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * 결제 완료 요약 INFO 로그 샘플링 (운영: 1/100, 개발: 전체)
+     * 실패/경고 로그는 샘플링하지 않음
+     */
+    @Bean
+    public LogSampler paymentLogSampler(@Value("${payment.logging.info-sample-rate:1}") int sampleRate) {
+        return new LogSampler(sampleRate);
+    }
+}
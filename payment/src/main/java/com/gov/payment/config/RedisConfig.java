@@ -1,5 +1,17 @@
 package com.gov.payment.config;
 
+import com.gov.core.redis.codec.BinaryRedisTemplates;
+import com.gov.payment.dto.DailyStatsSnapshot;
+import com.gov.payment.dto.PaymentCacheEntry;
+import com.gov.payment.redis.DailyStatsCodec;
+import com.gov.payment.redis.InstrumentedRedisConnectionFactory;
+import com.gov.payment.redis.InstrumentedRedissonClient;
+import com.gov.payment.redis.PaymentCacheEntryCodec;
+import com.gov.payment.redis.RedisCommandMetrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import java.time.Duration;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -7,7 +19,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -20,26 +34,90 @@ public class RedisConfig {
     @Value("${spring.data.redis.port:6379}")
     private int redisPort;
 
+    @Value("${spring.data.redis.timeout:2000ms}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:8}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:1s}")
+    private Duration poolMaxWait;
+
+    @Value("${redis-codec.compression-threshold:512}")
+    private int compressionThreshold;
+
+    /**
+     * Lettuce 커넥션 풀 + 명령 계측 래퍼
+     * 풀 상태(대기 수, 평균/최대 대여 대기)는 JMX 를 통해 commons.pool2.* 메트릭으로 노출
+     * 일반 명령은 공유 네이티브 커넥션 하나로 다중화(shareNativeConnection=true)하고, 풀은 전용 커넥션이 필요한
+     * 명령(MULTI/EXEC, 블로킹 명령, 파이프라인)에만 쓰인다 - 풀 메트릭이 0 근처인 것은 정상이며,
+     * 포화 여부는 redis.command.inflight 와 redis.command.duration 으로 판단
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+    public RedisConnectionFactory redisConnectionFactory(RedisCommandMetrics redisCommandMetrics) {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+        poolConfig.setJmxNamePrefix("lettuce");
+
+        LettucePoolingClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+            .poolConfig(poolConfig)
+            .commandTimeout(commandTimeout)
+            .build();
+
+        LettuceConnectionFactory lettuceConnectionFactory =
+            new LettuceConnectionFactory(new RedisStandaloneConfiguration(redisHost, redisPort), clientConfiguration);
+        // 기본값이지만 풀 메트릭 해석이 이 설정에 달려 있으므로 명시
+        lettuceConnectionFactory.setShareNativeConnection(true);
+        return new InstrumentedRedisConnectionFactory(lettuceConnectionFactory, redisCommandMetrics);
     }
 
     @Bean
-    public RedisTemplate<String, String> redisTemplate() {
+    public CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics(Tags.of("client", RedisCommandMetrics.CLIENT_LETTUCE));
+    }
+
+    @Bean
+    public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+        template.setConnectionFactory(redisConnectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
 
+    /**
+     * 결제 상태 캐시 (payment:cache:{paymentId}) - 바이너리 코덱
+     */
+    @Bean
+    public RedisTemplate<String, PaymentCacheEntry> paymentRedisTemplate(
+        RedisConnectionFactory redisConnectionFactory) {
+        return BinaryRedisTemplates.create(redisConnectionFactory, new PaymentCacheEntryCodec(), compressionThreshold);
+    }
+
+    /**
+     * 일별 통계 캐시 (stats:daily:{yyyyMMdd}[:{merchantId}]) - 바이너리 코덱
+     */
+    @Bean
+    public RedisTemplate<String, DailyStatsSnapshot> dailyStatsRedisTemplate(
+        RedisConnectionFactory redisConnectionFactory) {
+        return BinaryRedisTemplates.create(redisConnectionFactory, new DailyStatsCodec(), compressionThreshold);
+    }
+
     @Bean
-    public RedissonClient redissonClient() {
+    public RedissonClient redissonClient(RedisCommandMetrics redisCommandMetrics) {
         Config config = new Config();
         config.useSingleServer()
             .setAddress("redis://" + redisHost + ":" + redisPort);
-        return Redisson.create(config);
+        return InstrumentedRedissonClient.wrap(Redisson.create(config), redisCommandMetrics);
     }
 
 }
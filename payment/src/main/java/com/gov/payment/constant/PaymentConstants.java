@@ -19,6 +19,8 @@ public final class PaymentConstants {
 
     // 실패 사유
     public static final String FAILURE_INSUFFICIENT_BALANCE = "쿠폰 잔액이 부족합니다";
+    public static final String FAILURE_COUPON_NOT_FOUND = "쿠폰 잔액 정보를 찾을 수 없습니다";
+    public static final String FAILURE_COUPON_LOCK_TIMEOUT = "쿠폰 처리 지연 (락 획득 타임아웃)";
     public static final String FAILURE_PG_REJECTION = "PG 승인 실패";
     public static final String FAILURE_COMMUNICATION = "PG 통신 오류";
     public static final String FAILURE_TIMEOUT = "결제 처리 시간 초과";
@@ -29,6 +31,11 @@ public final class PaymentConstants {
     public static final String METRIC_PAYMENT_FAILURE = "payment.failure.total";
     public static final String METRIC_COUPON_VALIDATION_FAILURE = "coupon.validation.failure.total";
     public static final String METRIC_PG_FAILURE = "pg.failure.total";
+    public static final String METRIC_PAYMENT_STAGE = "payment.stage.duration";
+    public static final String METRIC_PAYMENT_PROCESSING = "payment.processing.time";
+
+    // 프로세스 변수
+    public static final String VAR_PROCESS_STARTED_AT = "processStartedAt";
 
     // 시간 설정 (초)
     public static final int PAYMENT_TIMEOUT_SECONDS = 30;
@@ -0,0 +1,73 @@
+package com.gov.payment.constant;
+
+/**
+ * 결제 실패 사유 분류 (메트릭 태그/집계용 고정 집합)
+ * 자유 형식 실패 메시지를 유한한 분류로 매핑하여 카디널리티를 제한
+ */
+public enum PaymentFailureReason {
+
+    INSUFFICIENT_BALANCE(Category.COUPON),
+    COUPON_NOT_FOUND(Category.COUPON),
+    COUPON_LOCK_TIMEOUT(Category.COUPON),
+    COUPON_OTHER(Category.COUPON),
+    PG_REJECTION(Category.PG),
+    PG_COMMUNICATION(Category.PG),
+    PG_OTHER(Category.PG),
+    TIMEOUT(Category.OTHER),
+    UNKNOWN(Category.OTHER);
+
+    private final Category category;
+
+    PaymentFailureReason(Category category) {
+        this.category = category;
+    }
+
+    public boolean isCouponFailure() {
+        return category == Category.COUPON;
+    }
+
+    public boolean isPgFailure() {
+        return category == Category.PG;
+    }
+
+    /**
+     * 실패 메시지 → 분류 (상수 메시지는 정확히 일치, 그 외는 키워드로 판단)
+     */
+    public static PaymentFailureReason classify(String failureReason) {
+        if (failureReason == null || failureReason.isEmpty()) {
+            return UNKNOWN;
+        }
+
+        switch (failureReason) {
+            case PaymentConstants.FAILURE_INSUFFICIENT_BALANCE:
+                return INSUFFICIENT_BALANCE;
+            case PaymentConstants.FAILURE_COUPON_NOT_FOUND:
+                return COUPON_NOT_FOUND;
+            case PaymentConstants.FAILURE_COUPON_LOCK_TIMEOUT:
+                return COUPON_LOCK_TIMEOUT;
+            case PaymentConstants.FAILURE_PG_REJECTION:
+                return PG_REJECTION;
+            case PaymentConstants.FAILURE_COMMUNICATION:
+                return PG_COMMUNICATION;
+            case PaymentConstants.FAILURE_TIMEOUT:
+                return TIMEOUT;
+            default:
+                break;
+        }
+
+        if (failureReason.contains("쿠폰")) {
+            return failureReason.contains("잔액") ? INSUFFICIENT_BALANCE : COUPON_OTHER;
+        }
+        if (failureReason.contains("PG")) {
+            return failureReason.contains("통신") ? PG_COMMUNICATION : PG_OTHER;
+        }
+        if (failureReason.contains("타임아웃") || failureReason.contains("시간 초과")) {
+            return TIMEOUT;
+        }
+        return UNKNOWN;
+    }
+
+    private enum Category {
+        COUPON, PG, OTHER
+    }
+}
@@ -30,7 +30,7 @@ public class PaymentController {
     @PostMapping
     public ResponseEntity<PaymentResDto> processPayment(@Valid @RequestBody PaymentReqDto request) {
         try {
-            log.info("결제 요청 API 호출: {}", request);
+            log.debug("결제 요청 API 호출: userId={}, merchantId={}", request.userId(), request.merchantId());
             PaymentResDto response = paymentService.processPayment(request);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -105,7 +105,7 @@ public class PaymentController {
     public ResponseEntity<PaymentResDto> cancelPayment(
         @PathVariable String paymentId) {
         try {
-            log.info("결제 취소 API 호출: paymentId={}", paymentId);
+            log.debug("결제 취소 API 호출: paymentId={}", paymentId);
             PaymentResDto response = paymentService.cancelPayment(paymentId);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
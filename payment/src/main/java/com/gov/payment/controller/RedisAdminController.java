@@ -0,0 +1,45 @@
+package com.gov.payment.controller;
+
+import com.gov.payment.redis.RedisCommandMetrics;
+import com.gov.payment.service.CouponBalanceService;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/redis")
+@RequiredArgsConstructor
+public class RedisAdminController {
+
+    private final RedisCommandMetrics redisCommandMetrics;
+    private final CouponBalanceService couponBalanceService;
+
+    /**
+     * 최근 느린 Redis 명령 조회 (최신순, 키는 키 공간 단위로만 노출)
+     */
+    @GetMapping("/slow-commands")
+    public ResponseEntity<Map<String, Object>> getSlowCommands() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("slowCommands", redisCommandMetrics.getRecentSlowCommands());
+        response.put("timeStamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 직전 1분 윈도우의 핫 쿠폰 (예약 요청 / 락 타임아웃 상위, 추정 건수)
+     * 메트릭은 순위 태그로만 노출하므로 쿠폰 ID 는 여기서 확인
+     */
+    @GetMapping("/hot-coupons")
+    public ResponseEntity<Map<String, Object>> getHotCoupons() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("requests", couponBalanceService.getHotCoupons());
+        response.put("lockTimeouts", couponBalanceService.getHotLockTimeoutCoupons());
+        response.put("timeStamp", LocalDateTime.now().toString());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,8 @@
 package com.gov.payment.delegate;
 
 import com.gov.payment.service.CouponBalanceService;
+import com.gov.payment.service.PaymentMetrics;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,19 +16,27 @@ import org.springframework.stereotype.Component;
 public class CouponConfirmDelegate implements JavaDelegate {
 
     private final CouponBalanceService couponBalanceService;
+    private final PaymentMetrics paymentMetrics;
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
         String couponId = (String) execution.getVariable("couponId");
         BigDecimal amount = (BigDecimal) execution.getVariable("amount");
 
-        log.info("쿠폰 사용 확정 시작: couponId={}, amount={}", couponId, amount);
+        log.debug("쿠폰 사용 확정 시작: couponId={}, amount={}", couponId, amount);
 
-        // 쿠폰 사용 확정
-        couponBalanceService.confirmUsage(couponId, amount);
+        Timer.Sample sample = paymentMetrics.startPaymentTimer();
+        String outcome = PaymentMetrics.OUTCOME_ERROR;
+        try {
+            // 쿠폰 사용 확정
+            couponBalanceService.confirmUsage(couponId, amount);
 
-        execution.setVariable("couponConfirmed", true);
-        log.info("쿠폰 사용 확정 완료: couponId={}, amount={}", couponId, amount);
+            execution.setVariable("couponConfirmed", true);
+            log.debug("쿠폰 사용 확정 완료: couponId={}, amount={}", couponId, amount);
+            outcome = PaymentMetrics.OUTCOME_SUCCESS;
+        } finally {
+            paymentMetrics.recordStage(sample, execution.getCurrentActivityId(), outcome);
+        }
     }
 
 }
@@ -1,6 +1,8 @@
 package com.gov.payment.delegate;
 
 import com.gov.payment.service.CouponBalanceService;
+import com.gov.payment.service.PaymentMetrics;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,22 +16,34 @@ import org.springframework.stereotype.Component;
 public class CouponRollbackDelegate implements JavaDelegate {
 
     private final CouponBalanceService couponBalanceService;
+    private final PaymentMetrics paymentMetrics;
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
+        String paymentId = (String) execution.getVariable("paymentId");
         String couponId = (String) execution.getVariable("couponId");
         BigDecimal amount = (BigDecimal) execution.getVariable("amount");
         Boolean couponReserved = (Boolean) execution.getVariable("couponReserved");
 
-        log.info("쿠폰 롤백 시작: couponId={}, amount={}, couponReserved={}",
-            couponId, amount, couponReserved);
+        if (log.isDebugEnabled()) {
+            log.debug("쿠폰 롤백 시작: couponId={}, amount={}, couponReserved={}",
+                couponId, amount, couponReserved);
+        }
 
-        // 쿠폰이 예약되었다면 롤백
-        if (Boolean.TRUE.equals(couponReserved)) {
-            couponBalanceService.restoreAmount(couponId, amount);
-            log.info("쿠폰 롤백 완료: couponId={}, amount={}", couponId, amount);
-        } else {
-            log.info("쿠폰 롤백 불필요: couponId={}, couponReserved={}", couponId, couponReserved);
+        Timer.Sample sample = paymentMetrics.startPaymentTimer();
+        String outcome = PaymentMetrics.OUTCOME_ERROR;
+        try {
+            // 쿠폰이 예약되었다면 롤백
+            if (Boolean.TRUE.equals(couponReserved)) {
+                couponBalanceService.restoreAmount(couponId, amount, paymentId);
+                log.debug("쿠폰 롤백 완료: couponId={}, amount={}", couponId, amount);
+                outcome = PaymentMetrics.OUTCOME_SUCCESS;
+            } else {
+                log.debug("쿠폰 롤백 불필요: couponId={}, couponReserved={}", couponId, couponReserved);
+                outcome = PaymentMetrics.OUTCOME_SKIPPED;
+            }
+        } finally {
+            paymentMetrics.recordStage(sample, execution.getCurrentActivityId(), outcome);
         }
     }
 }
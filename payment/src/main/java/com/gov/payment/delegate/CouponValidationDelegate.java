@@ -1,6 +1,10 @@
 package com.gov.payment.delegate;
 
+import com.gov.payment.constant.PaymentConstants;
 import com.gov.payment.service.CouponBalanceService;
+import com.gov.payment.service.CouponBalanceService.ReservationResult;
+import com.gov.payment.service.PaymentMetrics;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,24 +18,50 @@ import org.springframework.stereotype.Component;
 public class CouponValidationDelegate implements JavaDelegate{
 
     private final CouponBalanceService couponBalanceService;
+    private final PaymentMetrics paymentMetrics;
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
+        String paymentId = (String) execution.getVariable("paymentId");
         String couponId = (String) execution.getVariable("couponId");
         BigDecimal amount = (BigDecimal) execution.getVariable("amount");
 
-        log.info("쿠폰 검증 시작: couponId={}, amount={}", couponId, amount);
+        log.debug("쿠폰 검증 시작: couponId={}, amount={}", couponId, amount);
 
-        // 쿠폰 잔액 예약 시도
-        boolean reserved = couponBalanceService.reserveAmount(couponId, amount);
+        Timer.Sample sample = paymentMetrics.startPaymentTimer();
+        String outcome = PaymentMetrics.OUTCOME_ERROR;
+        try {
+            // 쿠폰 잔액 예약 시도
+            ReservationResult result = couponBalanceService.tryReserve(couponId, amount, paymentId);
+            boolean reserved = result == ReservationResult.RESERVED;
 
-        execution.setVariable("couponReserved", reserved);
+            execution.setVariable("couponReserved", reserved);
+            execution.setVariable("reservationResult", result.name());
 
-        if (!reserved) {
-            execution.setVariable("validationError", "쿠폰 잔액이 부족합니다");
-            log.warn("쿠폰 검증 실패: couponId={}, amount={}", couponId, amount);
-        } else {
-            log.info("쿠폰 검증 성공: couponId={}, amount={}", couponId, amount);
+            switch (result) {
+                case RESERVED -> {
+                    log.debug("쿠폰 검증 성공: couponId={}, amount={}", couponId, amount);
+                    outcome = PaymentMetrics.OUTCOME_SUCCESS;
+                }
+                case LOCK_TIMEOUT, INTERRUPTED -> {
+                    // 잔액 부족이 아닌 경합으로 인한 실패 - 재시도 가능 사유로 분리
+                    execution.setVariable("validationError", PaymentConstants.FAILURE_COUPON_LOCK_TIMEOUT);
+                    log.warn("쿠폰 검증 실패 (락 타임아웃): couponId={}, amount={}", couponId, amount);
+                    outcome = PaymentMetrics.OUTCOME_TIMEOUT;
+                }
+                case BALANCE_NOT_FOUND -> {
+                    execution.setVariable("validationError", PaymentConstants.FAILURE_COUPON_NOT_FOUND);
+                    log.warn("쿠폰 검증 실패 (잔액 정보 없음): couponId={}", couponId);
+                    outcome = PaymentMetrics.OUTCOME_REJECTED;
+                }
+                case INSUFFICIENT_BALANCE -> {
+                    execution.setVariable("validationError", PaymentConstants.FAILURE_INSUFFICIENT_BALANCE);
+                    log.warn("쿠폰 검증 실패 (잔액 부족): couponId={}, amount={}", couponId, amount);
+                    outcome = PaymentMetrics.OUTCOME_REJECTED;
+                }
+            }
+        } finally {
+            paymentMetrics.recordStage(sample, execution.getCurrentActivityId(), outcome);
         }
     }
 }
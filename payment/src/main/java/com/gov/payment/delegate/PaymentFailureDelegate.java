@@ -2,6 +2,8 @@ package com.gov.payment.delegate;
 
 import com.gov.payment.event.PaymentFailedEvent;
 import com.gov.payment.service.MetricsService;
+import com.gov.payment.service.PaymentMetrics;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,12 +12,13 @@ import org.camunda.bpm.engine.delegate.JavaDelegate;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
-@Component("paymentCompletedListener")
+@Component("paymentFailureDelegate")
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentFailureDelegate implements JavaDelegate {
     private final ApplicationEventPublisher eventPublisher;
     private final MetricsService metricsService;
+    private final PaymentMetrics paymentMetrics;
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
@@ -30,7 +33,10 @@ public class PaymentFailureDelegate implements JavaDelegate {
         // 실패 사유 결정
         String failureReason = determineFailureReason(validationError, paymentError);
 
-        log.info("결제 실패 후속 처리 시작: paymentId={}, reason={}", paymentId, failureReason);
+        log.debug("결제 실패 후속 처리 시작: paymentId={}, reason={}", paymentId, failureReason);
+
+        Timer.Sample sample = paymentMetrics.startPaymentTimer();
+        String outcome = PaymentMetrics.OUTCOME_ERROR;
 
         try {
             // 결제 실패 이벤트 발행
@@ -50,14 +56,17 @@ public class PaymentFailureDelegate implements JavaDelegate {
             execution.setVariable("retryPossible", retryPossible);
             execution.setVariable("finalFailureReason", failureReason);
 
-            log.info("결제 실패 후속 처리 완료: paymentId={}, retryPossible={}",
+            log.debug("결제 실패 후속 처리 완료: paymentId={}, retryPossible={}",
                 paymentId, retryPossible);
+            outcome = PaymentMetrics.OUTCOME_SUCCESS;
 
         } catch (Exception e) {
             log.error("결제 실패 후속 처리 실패: paymentId={}", paymentId, e);
 
             execution.setVariable("failureProcessed", false);
             execution.setVariable("retryPossible", false);
+        } finally {
+            paymentMetrics.recordStage(sample, execution.getCurrentActivityId(), outcome);
         }
     }
 
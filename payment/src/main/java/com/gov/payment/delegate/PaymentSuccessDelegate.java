@@ -2,7 +2,9 @@ package com.gov.payment.delegate;
 
 import com.gov.payment.event.PaymentCompletedEvent;
 import com.gov.payment.service.MetricsService;
+import com.gov.payment.service.PaymentMetrics;
 import com.gov.payment.service.SettlementService;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ public class PaymentSuccessDelegate implements JavaDelegate {
     private final ApplicationEventPublisher eventPublisher;
     private final SettlementService settlementService;
     private final MetricsService metricsService;
+    private final PaymentMetrics paymentMetrics;
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
@@ -28,7 +31,10 @@ public class PaymentSuccessDelegate implements JavaDelegate {
         BigDecimal amount = (BigDecimal) execution.getVariable("amount");
         String pgTransactionId = (String) execution.getVariable("pgTransactionId");
 
-        log.info("결제 성공 후속 처리 시작: paymentId={}", paymentId);
+        log.debug("결제 성공 후속 처리 시작: paymentId={}", paymentId);
+
+        Timer.Sample sample = paymentMetrics.startPaymentTimer();
+        String outcome = PaymentMetrics.OUTCOME_ERROR;
 
         try {
             // 결제 완료 이벤트 발행
@@ -47,7 +53,8 @@ public class PaymentSuccessDelegate implements JavaDelegate {
             execution.setVariable("successProcessed", true);
             execution.setVariable("eventPublished", true);
 
-            log.info("결제 성공 후속 처리 완료: paymentId={}", paymentId);
+            log.debug("결제 성공 후속 처리 완료: paymentId={}", paymentId);
+            outcome = PaymentMetrics.OUTCOME_SUCCESS;
 
         } catch (Exception e) {
             log.error("결제 성공 후속 처리 실패: paymentId={}", paymentId, e);
@@ -55,6 +62,8 @@ public class PaymentSuccessDelegate implements JavaDelegate {
             // 후속 처리 실패해도 결제는 성공으로 처리
             execution.setVariable("successProcessed", false);
             execution.setVariable("eventPublished", false);
+        } finally {
+            paymentMetrics.recordStage(sample, execution.getCurrentActivityId(), outcome);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.gov.payment.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 결제 통계 캐시 스냅샷 (stats:daily:{yyyyMMdd}[:{merchantId}])
+ * merchantId 가 null 이면 전체 가맹점 합계
+ */
+public record DailyStatsSnapshot(
+    LocalDate date,
+    String merchantId,
+    long transactionCount,
+    BigDecimal totalAmount
+) {
+
+    public static DailyStatsSnapshot from(String merchantId, DailyPaymentSummary summary) {
+        return new DailyStatsSnapshot(
+            summary.getPaymentDate(),
+            merchantId,
+            summary.getTransactionCount() != null ? summary.getTransactionCount() : 0L,
+            summary.getTotalAmount() != null ? summary.getTotalAmount() : BigDecimal.ZERO
+        );
+    }
+
+}
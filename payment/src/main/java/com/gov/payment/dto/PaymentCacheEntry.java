@@ -0,0 +1,16 @@
+package com.gov.payment.dto;
+
+/**
+ * 결제 상태 캐시 항목 (payment:cache:{paymentId})
+ * cachedAt 은 stale-while-revalidate 판정용 적재 시각 (epoch millis)
+ */
+public record PaymentCacheEntry(
+    PaymentResDto payment,
+    long cachedAt
+) {
+
+    public boolean isStale(long now, long freshForMillis) {
+        return now - cachedAt > freshForMillis;
+    }
+
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -24,7 +25,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "settlements")
+@Table(name = "settlements",
+    uniqueConstraints = @UniqueConstraint(name = "uk_settlement_merchant_date",
+        columnNames = {"merchant_id", "settlement_date"}))
 @Getter
 @NoArgsConstructor
 public class Settlement extends BaseTimeEntity {
@@ -250,6 +253,23 @@ public class Settlement extends BaseTimeEntity {
         }
     }
 
+    // 스트라이프 집계 합계 반영
+    public void applyAccruedTotals(BigDecimal totalAmount, BigDecimal commissionAmount,
+        BigDecimal netAmount, int transactionCount) {
+        if (this.status != SettlementStatus.PENDING) {
+            throw new IllegalStateException("PENDING 상태에서만 집계 반영이 가능합니다.");
+        }
+
+        this.totalAmount = totalAmount;
+        this.commissionAmount = commissionAmount;
+        this.netAmount = netAmount;
+        this.transactionCount = transactionCount;
+
+        if (totalAmount.compareTo(BigDecimal.ZERO) > 0) {
+            this.commissionRate = commissionAmount.divide(totalAmount, 4, RoundingMode.HALF_UP);
+        }
+    }
+
     // 정적 팩토리 메서드
     public static Settlement createForMerchant(String settlementId, Merchant merchant,
         LocalDate settlementDate) {
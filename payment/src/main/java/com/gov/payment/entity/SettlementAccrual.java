@@ -0,0 +1,68 @@
+package com.gov.payment.entity;
+
+import com.gov.core.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 부분 집계 (스트라이프)
+ * 하나의 정산 건을 여러 행으로 나누어 결제마다 같은 행을 갱신하는 경합을 분산하고,
+ * 정산 마감 시 합산하여 settlements 행에 반영
+ */
+@Entity
+@Table(name = "settlement_accruals",
+    uniqueConstraints = @UniqueConstraint(name = "uk_settlement_accrual_stripe",
+        columnNames = {"settlement_id", "stripe"}),
+    indexes = @Index(name = "idx_settlement_accrual_settlement", columnList = "settlement_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementAccrual extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "accrual_id", length = 60)
+    private String accrualId;
+
+    @Column(name = "settlement_id", length = 50, nullable = false)
+    private String settlementId;
+
+    @Column(name = "stripe", nullable = false)
+    private Integer stripe;
+
+    @Column(name = "total_amount", precision = 12, scale = 2, nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "commission_amount", precision = 12, scale = 2, nullable = false)
+    private BigDecimal commissionAmount;
+
+    @Column(name = "net_amount", precision = 12, scale = 2, nullable = false)
+    private BigDecimal netAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount;
+
+    private SettlementAccrual(String settlementId, int stripe) {
+        this.accrualId = accrualId(settlementId, stripe);
+        this.settlementId = settlementId;
+        this.stripe = stripe;
+        this.totalAmount = BigDecimal.ZERO;
+        this.commissionAmount = BigDecimal.ZERO;
+        this.netAmount = BigDecimal.ZERO;
+        this.transactionCount = 0;
+    }
+
+    public static SettlementAccrual createStripe(String settlementId, int stripe) {
+        return new SettlementAccrual(settlementId, stripe);
+    }
+
+    public static String accrualId(String settlementId, int stripe) {
+        return settlementId + "_" + stripe;
+    }
+}
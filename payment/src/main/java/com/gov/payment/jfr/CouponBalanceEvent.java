@@ -0,0 +1,41 @@
+package com.gov.payment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * 쿠폰 잔액 예약/복원 (분산 락 대기 시간 포함)
+ */
+@Name("com.gov.payment.CouponBalance")
+@Label("Coupon Balance Operation")
+@Category({"Gov", "Coupon"})
+@Description("쿠폰 잔액 예약/복원 처리 시간과 락 대기 시간")
+@StackTrace(false)
+@Setter
+public class CouponBalanceEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Coupon ID")
+    private String couponId;
+
+    @Label("Payment ID")
+    private String paymentId;
+
+    @Label("Amount")
+    private long amount;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    private long lockWait;
+
+    @Label("Result")
+    private String result;
+}
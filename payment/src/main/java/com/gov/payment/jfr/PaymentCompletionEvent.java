@@ -0,0 +1,55 @@
+package com.gov.payment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+/**
+ * 결제 프로세스 종료 (성공/실패 종료 이벤트 도달 시점)
+ */
+@Name("com.gov.payment.PaymentCompletion")
+@Label("Payment Completion")
+@Category({"Gov", "Payment"})
+@Description("결제 프로세스 종료 및 요청부터의 경과 시간")
+@StackTrace(false)
+@Setter
+public class PaymentCompletionEvent extends Event {
+
+    @Label("Payment ID")
+    private String paymentId;
+
+    @Label("Merchant ID")
+    private String merchantId;
+
+    @Label("Coupon ID")
+    private String couponId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("End-to-End Time")
+    @Timespan(Timespan.MILLISECONDS)
+    private long elapsed;
+
+    /**
+     * 종료 시점 즉시 이벤트 기록 (JFR 비활성 시 필드 설정 없이 반환)
+     */
+    public static void emit(String paymentId, String merchantId, String couponId,
+        String outcome, Long startedAtMillis) {
+        PaymentCompletionEvent event = new PaymentCompletionEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setPaymentId(paymentId);
+        event.setMerchantId(merchantId);
+        event.setCouponId(couponId);
+        event.setOutcome(outcome);
+        event.setElapsed(startedAtMillis != null ? Math.max(0, System.currentTimeMillis() - startedAtMillis) : -1);
+        event.commit();
+    }
+}
@@ -0,0 +1,39 @@
+package com.gov.payment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 결제 요청 접수 ~ 워크플로우 시작 반환까지 (요청 스레드 구간)
+ */
+@Name("com.gov.payment.PaymentRequest")
+@Label("Payment Request")
+@Category({"Gov", "Payment"})
+@Description("결제 요청 처리 시간")
+@StackTrace(false)
+@Setter
+public class PaymentRequestEvent extends Event {
+
+    @Label("Payment ID")
+    private String paymentId;
+
+    @Label("User ID")
+    private String userId;
+
+    @Label("Merchant ID")
+    private String merchantId;
+
+    @Label("Coupon ID")
+    private String couponId;
+
+    @Label("Amount")
+    private long amount;
+
+    @Label("Outcome")
+    private String outcome;
+}
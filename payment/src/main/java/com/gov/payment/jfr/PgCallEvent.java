@@ -0,0 +1,36 @@
+package com.gov.payment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * PG 승인/취소 호출
+ */
+@Name("com.gov.payment.PgCall")
+@Label("PG Call")
+@Category({"Gov", "Payment"})
+@Description("PG 승인/취소 호출 시간")
+@StackTrace(false)
+@Setter
+public class PgCallEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Payment ID")
+    private String paymentId;
+
+    @Label("PG Transaction ID")
+    private String pgTransactionId;
+
+    @Label("Amount")
+    private long amount;
+
+    @Label("Success")
+    private boolean success;
+}
@@ -1,23 +1,29 @@
 package com.gov.payment.listener;
 
+import com.gov.core.logging.LogSampler;
+import com.gov.payment.constant.PaymentConstants;
+import com.gov.payment.jfr.PaymentCompletionEvent;
 import com.gov.payment.service.CleanupService;
+import com.gov.payment.service.PaymentMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
 import org.springframework.stereotype.Component;
 
 @Component("paymentCompletedListener")
 @RequiredArgsConstructor
 @Slf4j
-public class PaymentCompletedListener {
+public class PaymentCompletedListener implements ExecutionListener {
 
     private final CleanupService cleanupService;
+    private final PaymentMetrics paymentMetrics;
+    private final LogSampler paymentLogSampler;
 
+    @Override
     public void notify(DelegateExecution execution) throws Exception {
         String paymentId = (String) execution.getVariable("paymentId");
 
-        log.info("결제 프로세스 성공 완료: paymentId={}", paymentId);
-
         try {
             // 1. 최종 상태 로깅
             logFinalState(execution);
@@ -33,19 +39,31 @@ public class PaymentCompletedListener {
         }
     }
 
+    /**
+     * 결제 완료 요약 (샘플링된 요청만 key/value 구조로 기록)
+     */
     private void logFinalState(DelegateExecution execution) {
-        String paymentId = (String) execution.getVariable("paymentId");
-        String userId = (String) execution.getVariable("userId");
-        String merchantId = (String) execution.getVariable("merchantId");
-        String pgTransactionId = (String) execution.getVariable("pgTransactionId");
-
-        log.info("최종 결제 완료 상태 - paymentId: {}, userId: {}, merchantId: {}, pgTransactionId: {}",
-            paymentId, userId, merchantId, pgTransactionId);
+        if (!log.isInfoEnabled() || !paymentLogSampler.sample()) {
+            return;
+        }
+        log.atInfo()
+            .addKeyValue("paymentId", execution.getVariable("paymentId"))
+            .addKeyValue("userId", execution.getVariable("userId"))
+            .addKeyValue("merchantId", execution.getVariable("merchantId"))
+            .addKeyValue("pgTransactionId", execution.getVariable("pgTransactionId"))
+            .log("결제 프로세스 성공 완료");
     }
 
+    /**
+     * 결제 요청(processPayment)부터 종료 이벤트까지의 처리 시간 기록
+     */
     private void recordCompletionMetrics(DelegateExecution execution) {
-        // 프로세스 완료 시간 메트릭 기록
-        // 실제로는 Timer.Sample 을 사용하여 정확한 소요시간 측정
+        Long startedAt = (Long) execution.getVariable(PaymentConstants.VAR_PROCESS_STARTED_AT);
+        paymentMetrics.recordEndToEnd(startedAt, PaymentMetrics.OUTCOME_COMPLETED);
+        PaymentCompletionEvent.emit((String) execution.getVariable("paymentId"),
+            (String) execution.getVariable("merchantId"),
+            (String) execution.getVariable("couponId"),
+            PaymentMetrics.OUTCOME_COMPLETED, startedAt);
     }
 
 }
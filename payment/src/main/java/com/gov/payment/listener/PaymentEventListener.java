@@ -14,7 +14,7 @@ public class PaymentEventListener {
     @EventListener
     @Async
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
-        log.info("결제 완료 이벤트 수신: paymentId={}, amount={}",
+        log.debug("결제 완료 이벤트 수신: paymentId={}, amount={}",
             event.getPaymentId(), event.getAmount());
 
         try {
@@ -28,7 +28,7 @@ public class PaymentEventListener {
     @EventListener
     @Async
     public void handlePaymentFailed(PaymentFailedEvent event) {
-        log.info("결제 실패 이벤트 수신: paymentId={}, reason={}",
+        log.debug("결제 실패 이벤트 수신: paymentId={}, reason={}",
             event.getPaymentId(), event.getFailureReason());
 
         try {
@@ -1,23 +1,26 @@
 package com.gov.payment.listener;
 
+import com.gov.payment.constant.PaymentConstants;
+import com.gov.payment.jfr.PaymentCompletionEvent;
 import com.gov.payment.service.CleanupService;
+import com.gov.payment.service.PaymentMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
 import org.springframework.stereotype.Component;
 
 @Component("paymentFailedListener")
 @RequiredArgsConstructor
 @Slf4j
-public class PaymentFailedListener {
+public class PaymentFailedListener implements ExecutionListener {
 
     private final CleanupService cleanupService;
+    private final PaymentMetrics paymentMetrics;
 
+    @Override
     public void notify(DelegateExecution execution) throws Exception {
         String paymentId = (String) execution.getVariable("paymentId");
-        String failureReason = (String) execution.getVariable("finalFailureReason");
-
-        log.info("결제 프로세스 실패 완료: paymentId={}, reason={}", paymentId, failureReason);
 
         try {
             // 1. 최종 실패 상태 로깅
@@ -34,19 +37,29 @@ public class PaymentFailedListener {
         }
     }
 
+    /**
+     * 결제 실패 요약 (실패는 샘플링하지 않고 key/value 구조로 기록)
+     */
     private void logFailureFinalState(DelegateExecution execution) {
-        String paymentId = (String) execution.getVariable("paymentId");
-        String userId = (String) execution.getVariable("userId");
-        String merchantId = (String) execution.getVariable("merchantId");
-        String failureReason = (String) execution.getVariable("finalFailureReason");
-        Boolean retryPossible = (Boolean) execution.getVariable("retryPossible");
-
-        log.info("최종 결제 실패 상태 - paymentId: {}, userId: {}, merchantId: {}, reason: {}, retryPossible: {}",
-            paymentId, userId, merchantId, failureReason, retryPossible);
+        log.atInfo()
+            .addKeyValue("paymentId", execution.getVariable("paymentId"))
+            .addKeyValue("userId", execution.getVariable("userId"))
+            .addKeyValue("merchantId", execution.getVariable("merchantId"))
+            .addKeyValue("reason", execution.getVariable("finalFailureReason"))
+            .addKeyValue("retryPossible", execution.getVariable("retryPossible"))
+            .log("결제 프로세스 실패 완료");
     }
 
+    /**
+     * 결제 요청(processPayment)부터 종료 이벤트까지의 처리 시간 기록
+     */
     private void recordFailureCompletionMetrics(DelegateExecution execution) {
-        // 실패 프로세스 완료 메트릭 기록
+        Long startedAt = (Long) execution.getVariable(PaymentConstants.VAR_PROCESS_STARTED_AT);
+        paymentMetrics.recordEndToEnd(startedAt, PaymentMetrics.OUTCOME_FAILED);
+        PaymentCompletionEvent.emit((String) execution.getVariable("paymentId"),
+            (String) execution.getVariable("merchantId"),
+            (String) execution.getVariable("couponId"),
+            PaymentMetrics.OUTCOME_FAILED, startedAt);
     }
 
 }
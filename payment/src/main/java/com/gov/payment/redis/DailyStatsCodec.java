@@ -0,0 +1,35 @@
+package com.gov.payment.redis;
+
+import com.gov.core.redis.codec.BinaryCodec;
+import com.gov.core.redis.codec.BinaryInput;
+import com.gov.core.redis.codec.BinaryOutput;
+import com.gov.payment.dto.DailyStatsSnapshot;
+
+/**
+ * 일별 통계 캐시 스키마 v1: date, merchantId, transactionCount, totalAmount
+ */
+public class DailyStatsCodec implements BinaryCodec<DailyStatsSnapshot> {
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(DailyStatsSnapshot value, BinaryOutput out) {
+        out.writeDate(value.date());
+        out.writeString(value.merchantId());
+        out.writeVarLong(value.transactionCount());
+        out.writeDecimal(value.totalAmount());
+    }
+
+    @Override
+    public DailyStatsSnapshot decode(BinaryInput in) {
+        return new DailyStatsSnapshot(
+            in.readDate(),
+            in.readString(),
+            in.readVarLong(),
+            in.readDecimal()
+        );
+    }
+}
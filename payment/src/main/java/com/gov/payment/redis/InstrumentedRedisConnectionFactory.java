@@ -0,0 +1,163 @@
+package com.gov.payment.redis;
+
+import com.gov.core.redis.RedisKeySpace;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+
+/**
+ * RedisConnectionFactory 계측 래퍼
+ * 커넥션 획득 시간을 기록하고, 커넥션과 하위 *Commands 객체의 호출을 명령 단위로 계측한다
+ * 위임 대상(LettuceConnectionFactory)의 초기화/종료도 함께 위임
+ */
+public class InstrumentedRedisConnectionFactory implements RedisConnectionFactory, InitializingBean, DisposableBean {
+
+    // 명령이 아닌 커넥션 관리용 메서드 - 계측 제외
+    private static final Set<String> NON_COMMAND_METHODS = Set.of(
+        "close", "isClosed", "getNativeConnection", "isQueueing", "isPipelined", "openPipeline",
+        "getSentinelConnection", "isSubscribed", "getSubscription");
+
+    // 키 대신 스크립트가 첫 인자인 명령 (keysAndArgs 배열의 첫 원소가 키)
+    private static final Set<String> SCRIPT_METHODS = Set.of("eval", "evalSha");
+
+    private final RedisConnectionFactory delegate;
+    private final RedisCommandMetrics metrics;
+
+    public InstrumentedRedisConnectionFactory(RedisConnectionFactory delegate, RedisCommandMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+        long start = System.nanoTime();
+        RedisConnection connection = delegate.getConnection();
+        metrics.recordConnectionAcquire(System.nanoTime() - start);
+        return wrap(connection, RedisConnection.class);
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+        return delegate.getClusterConnection();
+    }
+
+    @Override
+    public boolean getConvertPipelineAndTxResults() {
+        return delegate.getConvertPipelineAndTxResults();
+    }
+
+    @Override
+    public RedisSentinelConnection getSentinelConnection() {
+        return delegate.getSentinelConnection();
+    }
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        return delegate.translateExceptionIfPossible(ex);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (delegate instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposableBean) {
+            disposableBean.destroy();
+        }
+    }
+
+    public RedisConnectionFactory getDelegate() {
+        return delegate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T wrap(T target, Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new CommandHandler(target));
+    }
+
+    private class CommandHandler implements InvocationHandler {
+
+        private final Object target;
+
+        CommandHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (method.getDeclaringClass() == Object.class || NON_COMMAND_METHODS.contains(name)) {
+                return invokeTarget(method, args);
+            }
+
+            // stringCommands(), keyCommands() 등 하위 명령 인터페이스도 같은 방식으로 계측
+            if (name.endsWith("Commands") && method.getParameterCount() == 0 && method.getReturnType().isInterface()) {
+                Object commands = invokeTarget(method, args);
+                return commands != null ? wrapCommands(commands, method.getReturnType()) : null;
+            }
+
+            metrics.checkFlagged(RedisCommandMetrics.CLIENT_LETTUCE, name);
+
+            long start = metrics.start(RedisCommandMetrics.CLIENT_LETTUCE);
+            boolean success = false;
+            try {
+                Object result = invokeTarget(method, args);
+                success = true;
+                return result;
+            } finally {
+                metrics.stop(RedisCommandMetrics.CLIENT_LETTUCE, name, RedisKeySpace.tagOf(firstKey(name, args)), start, success);
+            }
+        }
+
+        private Object wrapCommands(Object commands, Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new CommandHandler(commands));
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * 메트릭 키 공간 분류용 첫 번째 키 추출 (디코딩 없이 byte[] 그대로 반환)
+     */
+    private static byte[] firstKey(String method, Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        if (SCRIPT_METHODS.contains(method)) {
+            Object keysAndArgs = args[args.length - 1];
+            int numKeys = args.length >= 3 && args[2] instanceof Integer count ? count : 0;
+            if (numKeys > 0 && keysAndArgs instanceof byte[][] values && values.length > 0) {
+                return values[0];
+            }
+            return null;
+        }
+        Object first = args[0];
+        if (first instanceof byte[] key) {
+            return key;
+        }
+        if (first instanceof byte[][] keys && keys.length > 0) {
+            return keys[0];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.gov.payment.redis;
+
+import com.gov.core.redis.RedisKeySpace;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import org.redisson.api.RedissonClient;
+
+/**
+ * RedissonClient 계측 프록시
+ * getLock(name), getBucket(name) 등으로 얻은 객체의 동기 호출을 "RLock.tryLock" 형태의 명령으로 계측한다
+ * 비동기/리액티브 API(*Async 등)는 제출 시간만 측정되므로 계측하지 않음
+ */
+public final class InstrumentedRedissonClient {
+
+    private static final String REDISSON_API_PACKAGE = "org.redisson.api";
+
+    private InstrumentedRedissonClient() {
+    }
+
+    public static RedissonClient wrap(RedissonClient client, RedisCommandMetrics metrics) {
+        return (RedissonClient) Proxy.newProxyInstance(RedissonClient.class.getClassLoader(),
+            new Class<?>[]{RedissonClient.class}, new ClientHandler(client, metrics));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ClientHandler(RedissonClient client, RedisCommandMetrics metrics) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(client, method, args);
+
+            Class<?> returnType = method.getReturnType();
+            boolean namedObject = args != null && args.length > 0 && args[0] instanceof String;
+            if (result == null || !namedObject || !returnType.isInterface()
+                || !REDISSON_API_PACKAGE.equals(returnType.getPackageName())) {
+                return result;
+            }
+
+            return Proxy.newProxyInstance(returnType.getClassLoader(), new Class<?>[]{returnType},
+                new ObjectHandler(result, returnType.getSimpleName(), RedisKeySpace.tagOf((String) args[0]), metrics));
+        }
+    }
+
+    private record ObjectHandler(Object target, String type, String keyspace, RedisCommandMetrics metrics)
+        implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (method.getDeclaringClass() == Object.class || "getName".equals(methodName)
+                || methodName.endsWith("Async")) {
+                return invokeTarget(target, method, args);
+            }
+
+            String command = type + "." + methodName;
+            metrics.checkFlagged(RedisCommandMetrics.CLIENT_REDISSON, command);
+
+            long start = metrics.start(RedisCommandMetrics.CLIENT_REDISSON);
+            boolean success = false;
+            try {
+                Object result = invokeTarget(target, method, args);
+                success = true;
+                return result;
+            } finally {
+                metrics.stop(RedisCommandMetrics.CLIENT_REDISSON, command, keyspace, start, success);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gov.payment.redis;
+
+import com.gov.core.redis.codec.BinaryCodec;
+import com.gov.core.redis.codec.BinaryInput;
+import com.gov.core.redis.codec.BinaryOutput;
+import com.gov.payment.dto.PaymentCacheEntry;
+
+/**
+ * 결제 상태 캐시 스키마 v1: cachedAt + 결제 응답(PaymentResCodec v1)
+ * PaymentResCodec 스키마가 바뀌면 이 코덱의 버전도 함께 올린다
+ */
+public class PaymentCacheEntryCodec implements BinaryCodec<PaymentCacheEntry> {
+
+    private final PaymentResCodec paymentResCodec = new PaymentResCodec();
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(PaymentCacheEntry value, BinaryOutput out) {
+        out.writeVarLong(value.cachedAt());
+        paymentResCodec.encode(value.payment(), out);
+    }
+
+    @Override
+    public PaymentCacheEntry decode(BinaryInput in) {
+        long cachedAt = in.readVarLong();
+        return new PaymentCacheEntry(paymentResCodec.decode(in), cachedAt);
+    }
+}
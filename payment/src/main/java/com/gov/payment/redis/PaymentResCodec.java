@@ -0,0 +1,51 @@
+package com.gov.payment.redis;
+
+import com.gov.core.redis.codec.BinaryCodec;
+import com.gov.core.redis.codec.BinaryInput;
+import com.gov.core.redis.codec.BinaryOutput;
+import com.gov.payment.dto.PaymentResDto;
+import com.gov.payment.entity.PaymentStatus;
+
+/**
+ * 결제 응답 캐시 스키마 v1
+ * paymentId, userId, merchantId, couponId, amount, status, paymentDate, processInstanceId, pgTransactionId, failureReason
+ */
+public class PaymentResCodec implements BinaryCodec<PaymentResDto> {
+
+    private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+
+    @Override
+    public int schemaVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(PaymentResDto value, BinaryOutput out) {
+        out.writeString(value.paymentId());
+        out.writeString(value.userId());
+        out.writeString(value.merchantId());
+        out.writeString(value.couponId());
+        out.writeDecimal(value.amount());
+        out.writeEnum(value.status());
+        out.writeDateTime(value.paymentDate());
+        out.writeString(value.processInstanceId());
+        out.writeString(value.pgTransactionId());
+        out.writeString(value.failureReason());
+    }
+
+    @Override
+    public PaymentResDto decode(BinaryInput in) {
+        return PaymentResDto.builder()
+            .paymentId(in.readString())
+            .userId(in.readString())
+            .merchantId(in.readString())
+            .couponId(in.readString())
+            .amount(in.readDecimal())
+            .status(in.readEnum(STATUSES))
+            .paymentDate(in.readDateTime())
+            .processInstanceId(in.readString())
+            .pgTransactionId(in.readString())
+            .failureReason(in.readString())
+            .build();
+    }
+}
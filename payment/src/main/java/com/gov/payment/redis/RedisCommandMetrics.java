@@ -0,0 +1,229 @@
+package com.gov.payment.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 명령 계측 (Lettuce / Redisson 공용)
+ * 명령별 지연 히스토그램, 커넥션 획득 대기, 진행 중 명령 수, 느린 명령 로그, 금지 명령(KEYS 등) 감지
+ * 느린 명령 경고 로그는 명령별로 slow-log-interval 에 한 번만 남기고 (생략 건수 포함), 카운터와 목록은 모두 기록
+ */
+@Slf4j
+@Component
+public class RedisCommandMetrics {
+
+    public static final String CLIENT_LETTUCE = "lettuce";
+    public static final String CLIENT_REDISSON = "redisson";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final int slowLogSize;
+    private final long slowLogIntervalNanos;
+    private final Set<String> flaggedCommands;
+    private final boolean rejectFlagged;
+
+    private final Map<CommandKey, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final Map<CommandKey, Counter> slowCounters = new ConcurrentHashMap<>();
+    private final Map<CommandKey, SlowLogGate> slowLogGates = new ConcurrentHashMap<>();
+    private final Map<String, Counter> flaggedCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> reportedCallSites = ConcurrentHashMap.newKeySet();
+    private final Timer connectionAcquireTimer;
+
+    private final Deque<SlowCommand> slowCommands = new ArrayDeque<>();
+
+    public RedisCommandMetrics(MeterRegistry meterRegistry,
+        @Value("${payment.redis.instrumentation.slow-threshold:50ms}") Duration slowThreshold,
+        @Value("${payment.redis.instrumentation.slow-log-size:200}") int slowLogSize,
+        @Value("${payment.redis.instrumentation.slow-log-interval:10s}") Duration slowLogInterval,
+        @Value("${payment.redis.instrumentation.flagged-commands:keys,flushDb,flushAll}") String[] flaggedCommands,
+        @Value("${payment.redis.instrumentation.reject-flagged:false}") boolean rejectFlagged) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSize = slowLogSize;
+        this.slowLogIntervalNanos = slowLogInterval.toNanos();
+        this.flaggedCommands = Arrays.stream(flaggedCommands)
+            .map(String::trim)
+            .map(command -> command.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        this.rejectFlagged = rejectFlagged;
+
+        this.connectionAcquireTimer = Timer.builder("redis.connection.acquire")
+            .description("Redis 커넥션 획득 대기 시간")
+            .tag("client", CLIENT_LETTUCE)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(10_000))
+            .maximumExpectedValue(Duration.ofSeconds(5))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 명령 시작 - 진행 중 명령 수 증가 후 시작 시각(nanos) 반환
+     */
+    public long start(String client) {
+        inFlightOf(client).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * 명령 종료 - 지연 기록, 임계치 초과 시 느린 명령 로그
+     *
+     * @param keyspace 키 공간 태그 (RedisKeySpace.tagOf)
+     */
+    public void stop(String client, String command, String keyspace, long startNanos, boolean success) {
+        long elapsed = System.nanoTime() - startNanos;
+        inFlightOf(client).decrementAndGet();
+
+        CommandKey commandKey = new CommandKey(client, command, keyspace,
+            success ? OUTCOME_SUCCESS : OUTCOME_ERROR);
+        commandTimers.computeIfAbsent(commandKey, this::commandTimer).record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowThresholdNanos) {
+            recordSlowCommand(commandKey, elapsed);
+        }
+    }
+
+    public void recordConnectionAcquire(long elapsedNanos) {
+        connectionAcquireTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 핫 패스에서 사용하면 안 되는 명령(KEYS 등) 감지
+     * 호출 위치별 최초 1회만 경고 로그, 설정 시 실행 차단
+     */
+    public void checkFlagged(String client, String command) {
+        if (!flaggedCommands.contains(command.toLowerCase(Locale.ROOT))) {
+            return;
+        }
+        flaggedCounters.computeIfAbsent(command, name -> Counter.builder("redis.command.flagged")
+                .description("금지 명령 호출 수")
+                .tags("client", client, "command", name)
+                .register(meterRegistry))
+            .increment();
+
+        String callSite = findCallSite();
+        if (reportedCallSites.add(command + "@" + callSite)) {
+            log.warn("금지 Redis 명령 호출 감지: client={}, command={}, callSite={}", client, command, callSite);
+        }
+        if (rejectFlagged) {
+            throw new InvalidDataAccessApiUsageException("허용되지 않은 Redis 명령입니다: " + command);
+        }
+    }
+
+    /**
+     * 최근 느린 명령 목록 (최신순)
+     */
+    public List<SlowCommand> getRecentSlowCommands() {
+        synchronized (slowCommands) {
+            List<SlowCommand> recent = new ArrayList<>(slowCommands);
+            Collections.reverse(recent);
+            return recent;
+        }
+    }
+
+    private void recordSlowCommand(CommandKey commandKey, long elapsedNanos) {
+        slowCounters.computeIfAbsent(commandKey, key -> Counter.builder("redis.command.slow")
+                .description("임계치를 넘은 Redis 명령 수")
+                .tags("client", key.client(), "command", key.command(), "keyspace", key.keyspace())
+                .register(meterRegistry))
+            .increment();
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        SlowCommand slowCommand = new SlowCommand(Instant.now(), commandKey.client(), commandKey.command(),
+            commandKey.keyspace(), elapsedMillis, Thread.currentThread().getName());
+        synchronized (slowCommands) {
+            if (slowCommands.size() >= slowLogSize) {
+                slowCommands.pollFirst();
+            }
+            slowCommands.addLast(slowCommand);
+        }
+
+        // Redis 지연 시 모든 명령이 느려지므로 경고 로그는 명령별로 간격 제한
+        int suppressed = slowLogGates.computeIfAbsent(commandKey, key -> new SlowLogGate()).tryPass(slowLogIntervalNanos);
+        if (suppressed >= 0) {
+            log.warn("느린 Redis 명령: client={}, command={}, keyspace={}, elapsedMs={}, suppressed={}",
+                commandKey.client(), commandKey.command(), commandKey.keyspace(), elapsedMillis, suppressed);
+        }
+    }
+
+    private Timer commandTimer(CommandKey key) {
+        return Timer.builder("redis.command.duration")
+            .tags("client", key.client(), "command", key.command(),
+                "keyspace", key.keyspace(), "outcome", key.outcome())
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(50_000))
+            .maximumExpectedValue(Duration.ofSeconds(5))
+            .register(meterRegistry);
+    }
+
+    private AtomicInteger inFlightOf(String client) {
+        return inFlight.computeIfAbsent(client, name -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("redis.command.inflight", counter, AtomicInteger::get)
+                .description("응답 대기 중인 Redis 명령 수")
+                .tag("client", name)
+                .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    private static String findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith("com.gov.")
+                && !frame.getClassName().startsWith(RedisCommandMetrics.class.getPackageName()))
+            .findFirst()
+            .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+
+    /**
+     * 명령별 경고 로그 간격 제한 - 통과 시 직전 로그 이후 생략된 건수, 생략 시 -1 반환
+     */
+    private static final class SlowLogGate {
+
+        private final AtomicLong lastLoggedNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+        private final AtomicInteger suppressed = new AtomicInteger();
+
+        int tryPass(long intervalNanos) {
+            long now = System.nanoTime();
+            long last = lastLoggedNanos.get();
+            if (now - last >= intervalNanos && lastLoggedNanos.compareAndSet(last, now)) {
+                return suppressed.getAndSet(0);
+            }
+            suppressed.incrementAndGet();
+            return -1;
+        }
+    }
+
+    private record CommandKey(String client, String command, String keyspace, String outcome) {
+    }
+
+    public record SlowCommand(Instant at, String client, String command, String keyspace,
+                              long elapsedMillis, String thread) {
+    }
+}
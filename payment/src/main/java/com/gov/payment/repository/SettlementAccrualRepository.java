@@ -0,0 +1,44 @@
+package com.gov.payment.repository;
+
+import com.gov.payment.entity.SettlementAccrual;
+import com.gov.payment.entity.SettlementStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SettlementAccrualRepository extends JpaRepository<SettlementAccrual, String> {
+
+    // 스트라이프 행에 정산 상세 금액 원자적 누적
+    // 정산 상태 조건을 UPDATE 안에서 확인 - 하위 조회가 정산 행을 공유 잠금으로 읽어 동시 승인과 직렬화
+    @Modifying
+    @Query("UPDATE SettlementAccrual a SET a.totalAmount = a.totalAmount + :amount, " +
+        "a.commissionAmount = a.commissionAmount + :commissionAmount, " +
+        "a.netAmount = a.netAmount + :netAmount, " +
+        "a.transactionCount = a.transactionCount + 1 " +
+        "WHERE a.accrualId = :accrualId " +
+        "AND EXISTS (SELECT s.settlementId FROM Settlement s " +
+        "WHERE s.settlementId = a.settlementId AND s.status = :pendingStatus)")
+    int accrue(
+        @Param("accrualId") String accrualId,
+        @Param("pendingStatus") SettlementStatus pendingStatus,
+        @Param("amount") BigDecimal amount,
+        @Param("commissionAmount") BigDecimal commissionAmount,
+        @Param("netAmount") BigDecimal netAmount);
+
+    // 누락된 스트라이프 행 생성 (기존 행은 건드리지 않도록 merge 대신 INSERT - 중복 시 유니크 키 위반)
+    @Modifying
+    @Query(value = "INSERT INTO settlement_accruals (accrual_id, settlement_id, stripe, total_amount, " +
+        "commission_amount, net_amount, transaction_count, created_at, updated_at) " +
+        "VALUES (:accrualId, :settlementId, :stripe, 0, 0, 0, 0, :now, :now)", nativeQuery = true)
+    int insertStripe(
+        @Param("accrualId") String accrualId,
+        @Param("settlementId") String settlementId,
+        @Param("stripe") int stripe,
+        @Param("now") LocalDateTime now);
+
+    List<SettlementAccrual> findBySettlementId(String settlementId);
+}
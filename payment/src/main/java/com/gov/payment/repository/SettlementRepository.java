@@ -4,12 +4,14 @@ import com.gov.payment.dto.DailySettlementSummary;
 import com.gov.payment.dto.MonthlySettlementSummary;
 import com.gov.payment.entity.Settlement;
 import com.gov.payment.entity.SettlementStatus;
+import jakarta.persistence.LockModeType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,6 +23,14 @@ public interface SettlementRepository extends JpaRepository<Settlement, String>
     // 가맹점과 날짜로 정산 조회
     Optional<Settlement> findByMerchant_MerchantIdAndSettlementDate(String merchantId, LocalDate settlementDate);
 
+    // 가맹점과 날짜로 정산 잠금 조회 (공유 잠금 읽기는 트랜잭션 스냅샷이 아닌 최신 커밋 행을 읽음)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM Settlement s WHERE s.merchant.merchantId = :merchantId " +
+        "AND s.settlementDate = :settlementDate")
+    Optional<Settlement> findForShareByMerchantIdAndSettlementDate(
+        @Param("merchantId") String merchantId,
+        @Param("settlementDate") LocalDate settlementDate);
+
     // 상태별 정산 조회
     List<Settlement> findByStatusOrderByCreatedAtDesc(SettlementStatus status);
 
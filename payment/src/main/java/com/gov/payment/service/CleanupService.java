@@ -1,51 +1,103 @@
 package com.gov.payment.service;
 
+import com.gov.core.batch.BatchLeaseService;
+import com.gov.payment.service.RedisMaintenanceService.SweepResult;
 import com.gov.payment.utils.RedisKeyGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class CleanupService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisKeyGenerator redisKeyGenerator;
+    private final BatchLeaseService batchLeaseService;
+    private final RedisMaintenanceService redisMaintenanceService;
+    private final Executor cleanupExecutor;
+    private final double heapWarnRatio;
+
+    // 대기/실행 중인 정리 작업 - 같은 결제에 대한 중복 요청 병합
+    private final Set<String> pendingCleanups = ConcurrentHashMap.newKeySet();
+
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+
+    private static final String CLEANUP_JOB_NAME = "payment-cleanup";
+    private static final Duration CLEANUP_LEASE_TTL = Duration.ofMinutes(50);
+
+    public CleanupService(RedisTemplate<String, String> redisTemplate,
+        RedisKeyGenerator redisKeyGenerator,
+        BatchLeaseService batchLeaseService,
+        RedisMaintenanceService redisMaintenanceService,
+        @Qualifier("cleanupExecutor") Executor cleanupExecutor,
+        MeterRegistry meterRegistry,
+        @Value("${payment.cleanup.heap-warn-ratio:0.85}") double heapWarnRatio) {
+        this.redisTemplate = redisTemplate;
+        this.redisKeyGenerator = redisKeyGenerator;
+        this.batchLeaseService = batchLeaseService;
+        this.redisMaintenanceService = redisMaintenanceService;
+        this.cleanupExecutor = cleanupExecutor;
+        this.heapWarnRatio = heapWarnRatio;
+
+        this.coalescedCounter = meterRegistry.counter("payment.cleanup.coalesced");
+        this.rejectedCounter = meterRegistry.counter("payment.cleanup.rejected");
+        meterRegistry.gauge("payment.cleanup.pending", pendingCleanups, Set::size);
+    }
 
+    /**
+     * 결제 단위 정리 작업 제출 (전용 bounded 풀)
+     * 이미 대기 중인 결제는 병합하고, 큐 초과 시 거절 - 남은 키는 주기 정리 작업이 처리
+     */
     public void cleanupPaymentProcess(String paymentId) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                log.info("결제 프로세스 정리 작업 시작: paymentId={}", paymentId);
-
-                cleanupTemporaryCache(paymentId);
-                cleanupSessionData(paymentId);
-                cleanupExpiredLocks();
-                compressOldLogs();
+        if (!pendingCleanups.add(paymentId)) {
+            coalescedCounter.increment();
+            return;
+        }
 
-                log.info("결제 프로세스 정리 작업 완료: paymentId={}", paymentId);
+        try {
+            cleanupExecutor.execute(() -> {
+                try {
+                    cleanupTemporaryCache(paymentId);
+                    cleanupSessionData(paymentId);
+                    log.debug("결제 프로세스 정리 작업 완료: paymentId={}", paymentId);
+
+                } catch (Exception e) {
+                    log.error("결제 프로세스 정리 작업 실패: paymentId={}", paymentId, e);
+                } finally {
+                    pendingCleanups.remove(paymentId);
+                }
+            });
 
-            } catch (Exception e) {
-                log.error("결제 프로세스 정리 작업 실패: paymentId={}", paymentId, e);
-            }
-        });
+        } catch (TaskRejectedException e) {
+            pendingCleanups.remove(paymentId);
+            rejectedCounter.increment();
+            log.warn("정리 작업 큐 초과로 거절: paymentId={}", paymentId);
+        }
     }
 
+    /**
+     * 결제 단위 정리는 알려진 키만 직접 삭제 (패턴 순회는 주기 작업에서 수행)
+     */
     private void cleanupTemporaryCache(String paymentId) {
         try {
-            String tempKey = redisKeyGenerator.paymentTempKey(paymentId);
-            redisTemplate.delete(tempKey);
-
-            String pattern = "*" + paymentId + "*temp*";
-            Set<String> keysToDelete = redisTemplate.keys(pattern);
-            if (keysToDelete != null && !keysToDelete.isEmpty()) {
-                redisTemplate.delete(keysToDelete);
-                log.debug("임시 캐시 삭제 완료: {} 개 키 삭제", keysToDelete.size());
-            }
+            redisTemplate.unlink(redisKeyGenerator.paymentTempKey(paymentId));
 
         } catch (Exception e) {
             log.error("임시 캐시 정리 실패: paymentId={}", paymentId, e);
@@ -61,31 +113,6 @@ public class CleanupService {
         }
     }
 
-    private void cleanupExpiredLocks() {
-        try {
-            String lockPattern = "gov:payment:coupon:lock:*";
-            Set<String> lockKeys = redisTemplate.keys(lockPattern);
-
-            if (lockKeys != null && !lockKeys.isEmpty()) {
-                int cleanedCount = 0;
-                for (String lockKey : lockKeys) {
-                    Long ttl = redisTemplate.getExpire(lockKey);
-                    if (ttl != null && ttl <= 0) {
-                        redisTemplate.delete(lockKey);
-                        cleanedCount++;
-                    }
-                }
-
-                if (cleanedCount > 0) {
-                    log.debug("만료된 락 정리 완료: {} 개 락 삭제", cleanedCount);
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("만료된 락 정리 실패", e);
-        }
-    }
-
     private void compressOldLogs() {
         try {
             log.debug("로그 압축 작업 수행");
@@ -95,14 +122,24 @@ public class CleanupService {
         }
     }
 
+    /**
+     * 매시 정각 정리 작업 - 시간별 리스를 획득한 한 노드만 실행
+     */
     @Scheduled(cron = "0 0 * * * *")
     public void scheduledCleanup() {
+        String tick = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).toString();
+        if (batchLeaseService.tryAcquire(CLEANUP_JOB_NAME, tick, CLEANUP_LEASE_TTL).isEmpty()) {
+            log.debug("스케줄된 정리 작업 생략 - 다른 노드에서 실행: tick={}", tick);
+            return;
+        }
+
         try {
             log.info("스케줄된 정리 작업 시작");
 
-            cleanupExpiredCache();
+            cleanupExpiredLocks();
             cleanupOldTemporaryData();
-            optimizeMemoryUsage();
+            compressOldLogs();
+            logMemoryUsage();
 
             log.info("스케줄된 정리 작업 완료");
 
@@ -111,17 +148,54 @@ public class CleanupService {
         }
     }
 
-    private void cleanupExpiredCache() {
-        // 만료된 캐시 정리 로직
+    /**
+     * TTL 없이 남은 쿠폰 락 정리 (비정상 종료로 해제되지 못한 락)
+     */
+    private void cleanupExpiredLocks() {
+        try {
+            SweepResult result = redisMaintenanceService.sweepKeysWithoutTtl(redisKeyGenerator.couponLockPattern());
+            if (result.deleted() > 0) {
+                log.info("만료된 락 정리 완료: {} 개 락 삭제", result.deleted());
+            }
+
+        } catch (Exception e) {
+            log.error("만료된 락 정리 실패", e);
+        }
     }
 
+    /**
+     * TTL 없이 남은 결제 임시 데이터 정리
+     */
     private void cleanupOldTemporaryData() {
-        // 24시간 이상 된 임시 데이터 정리
+        try {
+            SweepResult result = redisMaintenanceService.sweepKeysWithoutTtl(redisKeyGenerator.paymentTempPattern());
+            if (result.deleted() > 0) {
+                log.info("임시 데이터 정리 완료: {} 개 키 삭제", result.deleted());
+            }
+
+        } catch (Exception e) {
+            log.error("임시 데이터 정리 실패", e);
+        }
     }
 
-    private void optimizeMemoryUsage() {
-        // 메모리 사용량 최적화
-        System.gc();
+    /**
+     * 힙 사용량 기록 (명시적 GC 호출 대신 관측만 수행, 상세 수치는 jvm.memory.* 메트릭 참고)
+     */
+    private void logMemoryUsage() {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heap = memoryMXBean.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memoryMXBean.getNonHeapMemoryUsage();
+
+        long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        double usedRatio = max > 0 ? (double) heap.getUsed() / max : 0.0;
+
+        if (usedRatio >= heapWarnRatio) {
+            log.warn("힙 사용률 높음: used={}MB, committed={}MB, max={}MB, ratio={}",
+                heap.getUsed() >> 20, heap.getCommitted() >> 20, max >> 20, String.format("%.2f", usedRatio));
+        } else {
+            log.info("메모리 사용량: heapUsed={}MB, heapCommitted={}MB, heapMax={}MB, nonHeapUsed={}MB",
+                heap.getUsed() >> 20, heap.getCommitted() >> 20, max >> 20, nonHeap.getUsed() >> 20);
+        }
     }
 
 }
@@ -1,67 +1,152 @@
 package com.gov.payment.service;
 
+import com.gov.core.redis.RedisKeySpace;
+import com.gov.payment.jfr.CouponBalanceEvent;
+import com.gov.payment.utils.SpaceSavingTopK;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class CouponBalanceService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
 
-    private static final String BALANCE_KEY_PREFIX = "coupon:balance:";
-    private static final String LOCK_KEY_PREFIX = "coupon:lock:";
+    private static final long LOCK_WAIT_SECONDS = 5;
+
+    // 핫 쿠폰 추적 - 1분 단위 윈도우의 상위 K개를 순위(rank) 태그로만 메트릭 노출 (쿠폰 ID 는 관리 API/로그로만 제공)
+    private static final int HOT_COUPON_SKETCH_CAPACITY = 200;
+    private static final int HOT_COUPON_TOP_K = 10;
+    private static final long HOT_COUPON_WINDOW_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final Map<ReservationResult, Counter> reserveResultCounters = new EnumMap<>(ReservationResult.class);
+    private final Map<String, Counter> restoreResultCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lockWaitTimers = new ConcurrentHashMap<>();
+
+    private final SpaceSavingTopK hotRequestSketch = new SpaceSavingTopK(HOT_COUPON_SKETCH_CAPACITY);
+    private final SpaceSavingTopK hotLockTimeoutSketch = new SpaceSavingTopK(HOT_COUPON_SKETCH_CAPACITY);
+    private final MultiGauge hotRequestGauge;
+    private final MultiGauge hotLockTimeoutGauge;
+    private volatile long hotWindowEndMillis;
+    private volatile List<SpaceSavingTopK.Entry> lastHotCoupons = List.of();
+    private volatile List<SpaceSavingTopK.Entry> lastHotLockTimeouts = List.of();
+
+    public CouponBalanceService(RedisTemplate<String, String> redisTemplate,
+        RedissonClient redissonClient,
+        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redissonClient = redissonClient;
+        this.meterRegistry = meterRegistry;
+
+        for (ReservationResult result : ReservationResult.values()) {
+            reserveResultCounters.put(result, meterRegistry.counter("coupon.reserve.result",
+                "outcome", result.name().toLowerCase(Locale.ROOT)));
+        }
+        this.hotRequestGauge = MultiGauge.builder("coupon.hot.requests")
+            .description("최근 윈도우 예약 요청 상위 쿠폰 (추정 건수)")
+            .register(meterRegistry);
+        this.hotLockTimeoutGauge = MultiGauge.builder("coupon.hot.lock.timeouts")
+            .description("최근 윈도우 락 타임아웃 상위 쿠폰 (추정 건수)")
+            .register(meterRegistry);
+        this.hotWindowEndMillis = System.currentTimeMillis() + HOT_COUPON_WINDOW_MILLIS;
+    }
 
     /**
      * 쿠폰 잔액 예약 (분산 락 사용)
      */
     public boolean reserveAmount(String couponId, BigDecimal amount) {
-        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + couponId);
+        return tryReserve(couponId, amount) == ReservationResult.RESERVED;
+    }
+
+    /**
+     * 쿠폰 잔액 예약 - 실패 사유(락 타임아웃 / 잔액 부족 등)를 구분하여 반환
+     */
+    public ReservationResult tryReserve(String couponId, BigDecimal amount) {
+        return tryReserve(couponId, amount, null);
+    }
 
+    /**
+     * 쿠폰 잔액 예약 - 결제 ID를 JFR 이벤트에 함께 기록
+     */
+    public ReservationResult tryReserve(String couponId, BigDecimal amount, String paymentId) {
+        CouponBalanceEvent event = new CouponBalanceEvent();
+        event.begin();
+        RLock lock = redissonClient.getLock(RedisKeySpace.COUPON_LOCK.key(couponId));
+        trackHotCoupon(hotRequestSketch, couponId);
+
+        ReservationResult result;
         try {
-            if (lock.tryLock(5, TimeUnit.SECONDS)) {
-                String balanceKey = BALANCE_KEY_PREFIX + couponId;
+            if (acquire(lock, "reserve", event)) {
+                String balanceKey = RedisKeySpace.COUPON_BALANCE.key(couponId);
                 String currentBalance = redisTemplate.opsForValue().get(balanceKey);
 
-                if (currentBalance != null) {
+                if (currentBalance == null) {
+                    log.warn("쿠폰 잔액 정보가 없음: couponId={}", couponId);
+                    result = ReservationResult.BALANCE_NOT_FOUND;
+                } else {
                     BigDecimal balance = new BigDecimal(currentBalance);
                     if (balance.compareTo(amount) >= 0) {
                         BigDecimal newBalance = balance.subtract(amount);
-                        redisTemplate.opsForValue().set(balanceKey, newBalance.toString());
-                        log.info("쿠폰 잔액 예약 성공: couponId={}, amount={}, newBalance={}",
-                            couponId, amount, newBalance);
-                        return true;
+                        setKeepingTtl(couponId, newBalance);
+                        if (log.isDebugEnabled()) {
+                            log.debug("쿠폰 잔액 예약 성공: couponId={}, amount={}, newBalance={}",
+                                couponId, amount, newBalance);
+                        }
+                        result = ReservationResult.RESERVED;
+                    } else {
+                        log.warn("쿠폰 잔액 부족: couponId={}, requestAmount={}, currentBalance={}",
+                            couponId, amount, currentBalance);
+                        result = ReservationResult.INSUFFICIENT_BALANCE;
                     }
                 }
-                log.warn("쿠폰 잔액 부족: couponId={}, requestAmount={}, currentBalance={}",
-                    couponId, amount, currentBalance);
-                return false;
+            } else {
+                log.warn("쿠폰 락 획득 시간 초과: couponId={}", couponId);
+                trackHotCoupon(hotLockTimeoutSketch, couponId);
+                result = ReservationResult.LOCK_TIMEOUT;
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("쿠폰 잔액 예약 중 인터럽트: couponId={}", couponId, e);
-            return false;
+            result = ReservationResult.INTERRUPTED;
         } finally {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
         }
-        return false;
+
+        reserveResultCounters.get(result).increment();
+        commitEvent(event, "reserve", couponId, paymentId, amount, result.name());
+        return result;
     }
 
     /**
      * 쿠폰 잔액 확정 (예약된 금액을 실제 사용으로 확정)
      */
     public void confirmUsage(String couponId, BigDecimal amount) {
-        log.info("쿠폰 사용 확정: couponId={}, amount={}", couponId, amount);
+        log.debug("쿠폰 사용 확정: couponId={}, amount={}", couponId, amount);
         // 이미 reserveAmount에서 차감했으므로 별도 처리 없음
         // 추가 비즈니스 로직이 필요한 경우 여기에 구현
     }
@@ -70,37 +155,178 @@ public class CouponBalanceService {
      * 쿠폰 잔액 복원 (결제 실패 시)
      */
     public void restoreAmount(String couponId, BigDecimal amount) {
-        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + couponId);
+        restoreAmount(couponId, amount, null);
+    }
 
+    /**
+     * 쿠폰 잔액 복원 - 결제 ID를 JFR 이벤트에 함께 기록
+     */
+    public void restoreAmount(String couponId, BigDecimal amount, String paymentId) {
+        CouponBalanceEvent event = new CouponBalanceEvent();
+        event.begin();
+        RLock lock = redissonClient.getLock(RedisKeySpace.COUPON_LOCK.key(couponId));
+
+        String outcome;
         try {
-            if (lock.tryLock(5, TimeUnit.SECONDS)) {
-                String balanceKey = BALANCE_KEY_PREFIX + couponId;
+            if (acquire(lock, "restore", event)) {
+                String balanceKey = RedisKeySpace.COUPON_BALANCE.key(couponId);
                 String currentBalance = redisTemplate.opsForValue().get(balanceKey);
 
                 if (currentBalance != null) {
                     BigDecimal balance = new BigDecimal(currentBalance);
                     BigDecimal newBalance = balance.add(amount);
-                    redisTemplate.opsForValue().set(balanceKey, newBalance.toString());
-                    log.info("쿠폰 잔액 복원 완료: couponId={}, amount={}, newBalance={}",
-                        couponId, amount, newBalance);
+                    setKeepingTtl(couponId, newBalance);
+                    if (log.isDebugEnabled()) {
+                        log.debug("쿠폰 잔액 복원 완료: couponId={}, amount={}, newBalance={}",
+                            couponId, amount, newBalance);
+                    }
+                    outcome = "restored";
+                } else {
+                    outcome = "balance_not_found";
                 }
+            } else {
+                log.warn("쿠폰 잔액 복원 락 획득 시간 초과: couponId={}, amount={}", couponId, amount);
+                trackHotCoupon(hotLockTimeoutSketch, couponId);
+                outcome = "lock_timeout";
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("쿠폰 잔액 복원 중 인터럽트: couponId={}", couponId, e);
+            outcome = "interrupted";
         } finally {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
         }
+
+        restoreResultCounters.computeIfAbsent(outcome,
+            key -> meterRegistry.counter("coupon.restore.result", "outcome", key)).increment();
+        commitEvent(event, "restore", couponId, paymentId, amount, outcome);
     }
 
     /**
      * 쿠폰 잔액 조회
      */
     public BigDecimal getBalance(String couponId) {
-        String balanceKey = BALANCE_KEY_PREFIX + couponId;
+        String balanceKey = RedisKeySpace.COUPON_BALANCE.key(couponId);
         String balance = redisTemplate.opsForValue().get(balanceKey);
         return balance != null ? new BigDecimal(balance) : BigDecimal.ZERO;
     }
+
+    /**
+     * 직전 윈도우의 핫 쿠폰 목록 (추정 건수 내림차순)
+     */
+    public List<SpaceSavingTopK.Entry> getHotCoupons() {
+        return lastHotCoupons;
+    }
+
+    /**
+     * 직전 윈도우의 락 타임아웃 상위 쿠폰 목록 (추정 건수 내림차순)
+     */
+    public List<SpaceSavingTopK.Entry> getHotLockTimeoutCoupons() {
+        return lastHotLockTimeouts;
+    }
+
+    /**
+     * 잔액 갱신 - 초기화 시 설정한 만료일 기준 TTL 유지 (SET ... KEEPTTL)
+     */
+    private void setKeepingTtl(String couponId, BigDecimal balance) {
+        byte[] key = RedisKeySpace.COUPON_BALANCE.keyBytes(couponId);
+        byte[] value = balance.toString().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+            connection.stringCommands().set(key, value, Expiration.keepTtl(), SetOption.upsert()));
+    }
+
+    /**
+     * 락 획득 대기 시간 기록 (획득 성공/타임아웃 구분)
+     */
+    private boolean acquire(RLock lock, String operation, CouponBalanceEvent event) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(LOCK_WAIT_SECONDS, TimeUnit.SECONDS);
+            return acquired;
+        } finally {
+            long waited = System.nanoTime() - start;
+            lockWaitTimer(operation, acquired).record(waited, TimeUnit.NANOSECONDS);
+            event.setLockWait(waited);
+        }
+    }
+
+    private void commitEvent(CouponBalanceEvent event, String operation, String couponId,
+        String paymentId, BigDecimal amount, String result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setCouponId(couponId);
+            event.setPaymentId(paymentId);
+            event.setAmount(amount != null ? amount.longValue() : 0L);
+            event.setResult(result);
+            event.commit();
+        }
+    }
+
+    private Timer lockWaitTimer(String operation, boolean acquired) {
+        return lockWaitTimers.computeIfAbsent(operation + ":" + acquired, key -> Timer.builder("coupon.lock.wait")
+            .tag("operation", operation)
+            .tag("acquired", String.valueOf(acquired))
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(LOCK_WAIT_SECONDS))
+            .register(meterRegistry));
+    }
+
+    private void trackHotCoupon(SpaceSavingTopK sketch, String couponId) {
+        sketch.offer(couponId);
+        long now = System.currentTimeMillis();
+        if (now >= hotWindowEndMillis) {
+            publishHotCoupons(now);
+        }
+    }
+
+    /**
+     * 윈도우 종료 시 상위 K개를 게이지로 게시하고 스케치 초기화
+     */
+    private synchronized void publishHotCoupons(long now) {
+        if (now < hotWindowEndMillis) {
+            return;
+        }
+        hotWindowEndMillis = now + HOT_COUPON_WINDOW_MILLIS;
+
+        List<SpaceSavingTopK.Entry> hotRequests = hotRequestSketch.top(HOT_COUPON_TOP_K);
+        List<SpaceSavingTopK.Entry> hotLockTimeouts = hotLockTimeoutSketch.top(HOT_COUPON_TOP_K);
+        hotRequestGauge.register(toRows(hotRequests), true);
+        hotLockTimeoutGauge.register(toRows(hotLockTimeouts), true);
+        lastHotCoupons = hotRequests;
+        lastHotLockTimeouts = hotLockTimeouts;
+
+        if (!hotLockTimeouts.isEmpty()) {
+            log.info("핫 쿠폰 (직전 1분): requests={}, lockTimeouts={}", hotRequests, hotLockTimeouts);
+        }
+
+        hotRequestSketch.clear();
+        hotLockTimeoutSketch.clear();
+    }
+
+    /**
+     * 순위 태그만 사용 - 시계열 수는 최대 TOP_K 개로 고정
+     */
+    private List<MultiGauge.Row<?>> toRows(List<SpaceSavingTopK.Entry> entries) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(entries.size());
+        for (int rank = 0; rank < entries.size(); rank++) {
+            rows.add(MultiGauge.Row.of(Tags.of("rank", String.valueOf(rank + 1)), entries.get(rank).count()));
+        }
+        return rows;
+    }
+
+    /**
+     * 잔액 예약 결과
+     */
+    public enum ReservationResult {
+        RESERVED,
+        INSUFFICIENT_BALANCE,
+        BALANCE_NOT_FOUND,
+        LOCK_TIMEOUT,
+        INTERRUPTED
+    }
 }
@@ -1,38 +1,74 @@
 package com.gov.payment.service;
 
-import java.time.LocalDateTime;
+import com.gov.payment.constant.PaymentFailureReason;
+import com.gov.payment.utils.TimeBucketedCounters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MetricsService {
 
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final PaymentFailureReason[] REASONS = PaymentFailureReason.values();
+
+    // 빈발 감지: 최근 5분 내 같은 사유가 임계치 이상이면 경고 (사유별로 구간당 한 번)
+    private static final int ALERT_WINDOW_MINUTES = 5;
+    private static final long ALERT_THRESHOLD = 50;
+    private static final long NEVER_ALERTED = Long.MIN_VALUE / 2;
+
     private final PaymentMetrics paymentMetrics;
 
-    private final Map<String, Integer> dailyFailureCounts = new ConcurrentHashMap<>();
-    private final Map<String, String> commonFailureReasons = new ConcurrentHashMap<>();
+    // 실패 사유별 카운터 (고정 분류이므로 태그 카디널리티 제한)
+    private final Map<PaymentFailureReason, Counter> failureReasonCounters = new EnumMap<>(PaymentFailureReason.class);
+
+    // 일별 실패 사유 집계 (KST 자정 기준, 최근 8일) / 최근 60분 분 단위 집계
+    private final TimeBucketedCounters dailyFailureCounts =
+        new TimeBucketedCounters(Duration.ofDays(1), 8, REASONS.length, KST);
+    private final TimeBucketedCounters rollingFailureCounts =
+        new TimeBucketedCounters(Duration.ofMinutes(1), 60, REASONS.length, ZoneOffset.UTC);
+
+    // 사유별 마지막 경고 시각 (epoch minute) - CAS 로 구간당 한 스레드만 경고
+    private final AtomicLongArray lastAlertMinutes = new AtomicLongArray(REASONS.length);
+
+    public MetricsService(PaymentMetrics paymentMetrics, MeterRegistry meterRegistry) {
+        this.paymentMetrics = paymentMetrics;
+        for (int i = 0; i < REASONS.length; i++) {
+            lastAlertMinutes.set(i, NEVER_ALERTED);
+        }
+        for (PaymentFailureReason reason : REASONS) {
+            failureReasonCounters.put(reason, meterRegistry.counter("payment.failure.reason", "reason", reason.name()));
+        }
+    }
 
     public void recordPaymentFailure(String paymentId, String failureReason) {
         try {
-            log.info("결제 실패 메트릭 기록: paymentId={}, reason={}", paymentId, failureReason);
+            log.debug("결제 실패 메트릭 기록: paymentId={}, reason={}", paymentId, failureReason);
 
-            paymentMetrics.incrementPaymentFailure();
+            PaymentFailureReason reason = PaymentFailureReason.classify(failureReason);
 
-            if (failureReason != null) {
-                if (failureReason.contains("쿠폰")) {
-                    paymentMetrics.incrementCouponValidationFailure();
-                } else if (failureReason.contains("PG")) {
-                    paymentMetrics.incrementPgFailure();
-                }
+            paymentMetrics.incrementPaymentFailure();
+            if (reason.isCouponFailure()) {
+                paymentMetrics.incrementCouponValidationFailure();
+            } else if (reason.isPgFailure()) {
+                paymentMetrics.incrementPgFailure();
             }
 
-            updateDailyFailureStats(failureReason);
-            analyzeFailurePattern(paymentId, failureReason);
+            failureReasonCounters.get(reason).increment();
+            dailyFailureCounts.increment(reason.ordinal());
+            rollingFailureCounts.increment(reason.ordinal());
+
+            analyzeFailurePattern(reason);
 
         } catch (Exception e) {
             log.error("결제 실패 메트릭 기록 실패: paymentId={}", paymentId, e);
@@ -49,47 +85,79 @@ public class MetricsService {
         }
     }
 
-    private void updateDailyFailureStats(String failureReason) {
-        String today = LocalDateTime.now().toLocalDate().toString();
-        String key = today + ":" + (failureReason != null ? failureReason : "UNKNOWN");
+    /**
+     * 최근 구간 실패가 임계치 이상이면 경고 - 마지막 경고 후 한 구간이 지나기 전에는 다시 경고하지 않음
+     * (동시 실패가 임계치를 건너뛰어도 놓치지 않고, 매 실패마다 로그를 남기지도 않음)
+     */
+    private void analyzeFailurePattern(PaymentFailureReason reason) {
+        if (reason != PaymentFailureReason.PG_COMMUNICATION && reason != PaymentFailureReason.INSUFFICIENT_BALANCE) {
+            return;
+        }
 
-        dailyFailureCounts.merge(key, 1, Integer::sum);
-        commonFailureReasons.put(today, getMostCommonFailureReason(today));
-    }
+        long recent = rollingFailureCounts.sumRecent(ALERT_WINDOW_MINUTES, reason.ordinal());
+        if (recent < ALERT_THRESHOLD || !claimAlert(reason)) {
+            return;
+        }
 
-    private void analyzeFailurePattern(String paymentId, String failureReason) {
-        if (failureReason != null) {
-            if (failureReason.contains("PG 통신 오류")) {
-                checkPgCommunicationIssue();
-            } else if (failureReason.contains("쿠폰 잔액")) {
-                checkCouponBalanceIssue();
-            }
+        if (reason == PaymentFailureReason.PG_COMMUNICATION) {
+            checkPgCommunicationIssue(recent);
+        } else {
+            checkCouponBalanceIssue(recent);
         }
     }
 
-    private String getMostCommonFailureReason(String date) {
-        return dailyFailureCounts.entrySet().stream()
-            .filter(entry -> entry.getKey().startsWith(date + ":"))
-            .max(Map.Entry.comparingByValue())
-            .map(entry -> entry.getKey().substring(date.length() + 1))
-            .orElse("UNKNOWN");
+    private boolean claimAlert(PaymentFailureReason reason) {
+        long nowMinute = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+        long lastAlert = lastAlertMinutes.get(reason.ordinal());
+        return nowMinute - lastAlert >= ALERT_WINDOW_MINUTES
+            && lastAlertMinutes.compareAndSet(reason.ordinal(), lastAlert, nowMinute);
     }
 
-    private void checkPgCommunicationIssue() {
-        log.warn("PG 통신 오류 빈발 감지 - 모니터링 필요");
+    private void checkPgCommunicationIssue(long recent) {
+        log.warn("PG 통신 오류 빈발 감지 - 모니터링 필요: 최근 {}분 {}건", ALERT_WINDOW_MINUTES, recent);
     }
 
-    private void checkCouponBalanceIssue() {
-        log.warn("쿠폰 잔액 오류 빈발 감지 - 캐시 동기화 확인 필요");
+    private void checkCouponBalanceIssue(long recent) {
+        log.warn("쿠폰 잔액 오류 빈발 감지 - 캐시 동기화 확인 필요: 최근 {}분 {}건", ALERT_WINDOW_MINUTES, recent);
     }
 
+    /**
+     * 일자별 실패 사유 통계 (최근 8일 이내, yyyy-MM-dd)
+     */
     public Map<String, Integer> getDailyFailureStats(String date) {
-        return dailyFailureCounts.entrySet().stream()
-            .filter(entry -> entry.getKey().startsWith(date + ":"))
-            .collect(java.util.stream.Collectors.toMap(
-                entry -> entry.getKey().substring(date.length() + 1),
-                Map.Entry::getValue
-            ));
+        long epochDay = LocalDate.parse(date).toEpochDay();
+        Map<String, Integer> stats = new LinkedHashMap<>();
+        for (PaymentFailureReason reason : REASONS) {
+            long count = dailyFailureCounts.get(epochDay, reason.ordinal());
+            if (count > 0) {
+                stats.put(reason.name(), (int) count);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 일자별 최다 실패 사유
+     */
+    public String getMostCommonFailureReason(String date) {
+        return getDailyFailureStats(date).entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse(PaymentFailureReason.UNKNOWN.name());
+    }
+
+    /**
+     * 최근 n분 실패 사유 통계 (최대 60분)
+     */
+    public Map<String, Long> getRecentFailureStats(int minutes) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        for (PaymentFailureReason reason : REASONS) {
+            long count = rollingFailureCounts.sumRecent(minutes, reason.ordinal());
+            if (count > 0) {
+                stats.put(reason.name(), count);
+            }
+        }
+        return stats;
     }
 
 }
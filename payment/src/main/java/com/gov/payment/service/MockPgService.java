@@ -1,5 +1,6 @@
 package com.gov.payment.service;
 
+import com.gov.payment.jfr.PgCallEvent;
 import java.math.BigDecimal;
 import java.util.Random;
 import java.util.UUID;
@@ -17,7 +18,15 @@ public class MockPgService {
      * Mock PG 결제 처리
      */
     public PgResult processPayment(String paymentId, BigDecimal amount) {
-        log.info("PG 결제 처리 시작: paymentId={}, amount={}", paymentId, amount);
+        PgCallEvent event = new PgCallEvent();
+        event.begin();
+        PgResult result = approve(paymentId, amount);
+        commitPgEvent(event, "approve", paymentId, result.transactionId(), amount, result.success());
+        return result;
+    }
+
+    private PgResult approve(String paymentId, BigDecimal amount) {
+        log.debug("PG 결제 처리 시작: paymentId={}, amount={}", paymentId, amount);
 
         try {
             Thread.sleep(100); // PG 처리 시간 시뮬레이션
@@ -26,7 +35,7 @@ public class MockPgService {
 
             if (success) {
                 String transactionId = generatePgTransactionId();
-                log.info("PG 결제 성공: paymentId={}, pgTransactionId={}", paymentId, transactionId);
+                log.debug("PG 결제 성공: paymentId={}, pgTransactionId={}", paymentId, transactionId);
                 return new PgResult(true, transactionId, null);
             } else {
                 log.warn("PG 결제 실패: paymentId={}", paymentId);
@@ -43,7 +52,15 @@ public class MockPgService {
      * Mock PG 취소/환불 처리
      */
     public PgResult cancelPayment(String pgTransactionId, BigDecimal amount) {
-        log.info("PG 결제 취소 시작: pgTransactionId={}, amount={}", pgTransactionId, amount);
+        PgCallEvent event = new PgCallEvent();
+        event.begin();
+        PgResult result = cancel(pgTransactionId, amount);
+        commitPgEvent(event, "cancel", null, pgTransactionId, amount, result.success());
+        return result;
+    }
+
+    private PgResult cancel(String pgTransactionId, BigDecimal amount) {
+        log.debug("PG 결제 취소 시작: pgTransactionId={}, amount={}", pgTransactionId, amount);
 
         try {
             Thread.sleep(50); // PG 취소 처리 시간
@@ -52,7 +69,7 @@ public class MockPgService {
 
             if (success) {
                 String cancelTransactionId = generatePgTransactionId();
-                log.info("PG 결제 취소 성공: originalId={}, cancelId={}", pgTransactionId, cancelTransactionId);
+                log.debug("PG 결제 취소 성공: originalId={}, cancelId={}", pgTransactionId, cancelTransactionId);
                 return new PgResult(true, cancelTransactionId, null);
             } else {
                 log.warn("PG 결제 취소 실패: pgTransactionId={}", pgTransactionId);
@@ -65,6 +82,19 @@ public class MockPgService {
         }
     }
 
+    private void commitPgEvent(PgCallEvent event, String operation, String paymentId,
+        String pgTransactionId, BigDecimal amount, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setPaymentId(paymentId);
+            event.setPgTransactionId(pgTransactionId);
+            event.setAmount(amount != null ? amount.longValue() : 0L);
+            event.setSuccess(success);
+            event.commit();
+        }
+    }
+
     private String generatePgTransactionId() {
         return "PG_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
     }
@@ -0,0 +1,245 @@
+package com.gov.payment.service;
+
+import com.gov.core.datasource.ReadYourWritesContext;
+import com.gov.payment.dto.PaymentCacheEntry;
+import com.gov.payment.dto.PaymentResDto;
+import com.gov.payment.entity.Payment;
+import com.gov.payment.repository.PaymentRepository;
+import com.gov.payment.utils.RedisKeyGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 상태 read-through / write-through 캐시 (payment:cache:{paymentId})
+ * 생성/상태 전이 시 커밋 후 캐시를 갱신하고, 조회는 Redis 에서 바로 응답
+ * fresh-for 가 지난 항목은 그대로 응답하면서 백그라운드에서 DB 로 재검증 (stale-while-revalidate)
+ * 미스 적재는 Replica 에서 읽으므로 처음부터 stale 로 기록하고, 재검증은 Primary 에서 읽는다
+ */
+@Service
+@Slf4j
+public class PaymentCacheService {
+
+    private static final byte[] ABSENT = new byte[0];
+
+    // 읽어 둔 원본 값(없으면 빈 값)과 현재 값이 같을 때만 교체 - 새 값이 비어 있으면 삭제
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('get', KEYS[1]) or '' "
+            + "if current ~= ARGV[1] then return 0 end "
+            + "if ARGV[2] == '' then redis.call('del', KEYS[1]) "
+            + "else redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) end "
+            + "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, PaymentCacheEntry> paymentRedisTemplate;
+    private final RedisSerializer<PaymentCacheEntry> valueSerializer;
+    private final RedisKeyGenerator redisKeyGenerator;
+    private final PaymentRepository paymentRepository;
+    private final Executor paymentCacheRefreshExecutor;
+    private final TransactionTemplate primaryRead;
+    private final long freshForMillis;
+    private final Duration ttl = Duration.ofSeconds(RedisKeyGenerator.TTL.PAYMENT_CACHE);
+
+    // 재검증 대기/실행 중인 결제 - 같은 결제에 대한 중복 재검증 병합
+    private final Set<String> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+    private final Counter refreshRejectedCounter;
+
+    @SuppressWarnings("unchecked")
+    public PaymentCacheService(RedisTemplate<String, PaymentCacheEntry> paymentRedisTemplate,
+        RedisKeyGenerator redisKeyGenerator,
+        PaymentRepository paymentRepository,
+        @Qualifier("paymentCacheRefreshExecutor") Executor paymentCacheRefreshExecutor,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${payment.cache.fresh-for:30s}") Duration freshFor) {
+        this.paymentRedisTemplate = paymentRedisTemplate;
+        this.valueSerializer = (RedisSerializer<PaymentCacheEntry>) paymentRedisTemplate.getValueSerializer();
+        this.redisKeyGenerator = redisKeyGenerator;
+        this.paymentRepository = paymentRepository;
+        this.paymentCacheRefreshExecutor = paymentCacheRefreshExecutor;
+        // readOnly 가 아닌 트랜잭션은 Primary 로 라우팅됨
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.freshForMillis = freshFor.toMillis();
+
+        this.hitCounter = meterRegistry.counter("payment.cache.requests", "result", "hit");
+        this.staleCounter = meterRegistry.counter("payment.cache.requests", "result", "stale");
+        this.missCounter = meterRegistry.counter("payment.cache.requests", "result", "miss");
+        this.errorCounter = meterRegistry.counter("payment.cache.requests", "result", "error");
+        this.refreshRejectedCounter = meterRegistry.counter("payment.cache.refresh.rejected");
+        meterRegistry.gauge("payment.cache.refresh.pending", pendingRefreshes, Set::size);
+    }
+
+    /**
+     * 결제 상태 조회 - 캐시 미스일 때만 DB 조회 후 적재
+     */
+    public Optional<PaymentResDto> get(String paymentId) {
+        PaymentCacheEntry entry = read(paymentId);
+        if (entry != null) {
+            if (entry.isStale(System.currentTimeMillis(), freshForMillis)) {
+                staleCounter.increment();
+                refreshAsync(paymentId);
+            } else {
+                hitCounter.increment();
+            }
+            return Optional.of(entry.payment());
+        }
+
+        missCounter.increment();
+        Optional<PaymentResDto> loaded = load(paymentId);
+        // 조회 중 상태 전이가 먼저 기록됐을 수 있으므로 비어 있을 때만 적재
+        // Replica 값은 복제 지연만큼 뒤처질 수 있어 stale 로 기록 - 다음 조회에서 Primary 로 재검증
+        loaded.ifPresent(this::writeStaleIfAbsent);
+        return loaded;
+    }
+
+    /**
+     * 결제 생성/상태 전이 반영 - 트랜잭션 안에서는 커밋 후 기록 (롤백된 상태가 캐시에 남지 않도록)
+     * 같은 트랜잭션의 여러 전이는 등록 순서대로 기록되어 마지막 상태가 남는다
+     */
+    public void put(Payment payment) {
+        PaymentResDto snapshot = PaymentResDto.from(payment);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeOrEvict(snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeOrEvict(snapshot);
+            }
+        });
+    }
+
+    public void evict(String paymentId) {
+        try {
+            paymentRedisTemplate.unlink(redisKeyGenerator.paymentCacheKey(paymentId));
+        } catch (Exception e) {
+            log.warn("결제 캐시 삭제 실패: paymentId={}, error={}", paymentId, e.getMessage());
+        }
+    }
+
+    private PaymentCacheEntry read(String paymentId) {
+        try {
+            return paymentRedisTemplate.opsForValue().get(redisKeyGenerator.paymentCacheKey(paymentId));
+        } catch (Exception e) {
+            // Redis 장애 시 DB 조회로 대체
+            errorCounter.increment();
+            log.warn("결제 캐시 조회 실패, DB 조회로 대체: paymentId={}, error={}", paymentId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 상태 전이 기록 - 실패 시 이전 상태가 TTL 동안 남지 않도록 키를 삭제 (다음 조회에서 재적재)
+     */
+    private void writeOrEvict(PaymentResDto payment) {
+        try {
+            PaymentCacheEntry entry = new PaymentCacheEntry(payment, System.currentTimeMillis());
+            paymentRedisTemplate.opsForValue().set(redisKeyGenerator.paymentCacheKey(payment.paymentId()), entry, ttl);
+        } catch (Exception e) {
+            // 캐시 기록 실패는 결제 처리에 영향 없음
+            log.warn("결제 캐시 기록 실패, 캐시 삭제: paymentId={}, error={}", payment.paymentId(), e.getMessage());
+            evict(payment.paymentId());
+        }
+    }
+
+    private void writeStaleIfAbsent(PaymentResDto payment) {
+        try {
+            long staleAt = System.currentTimeMillis() - freshForMillis - 1;
+            PaymentCacheEntry entry = new PaymentCacheEntry(payment, staleAt);
+            paymentRedisTemplate.opsForValue().setIfAbsent(redisKeyGenerator.paymentCacheKey(payment.paymentId()), entry, ttl);
+        } catch (Exception e) {
+            log.warn("결제 캐시 기록 실패: paymentId={}, error={}", payment.paymentId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 직렬화된 원본 값 조회 (compareAndSet 비교용, 없으면 빈 배열)
+     */
+    private byte[] readRaw(String paymentId) {
+        byte[] rawKey = RedisSerializer.string().serialize(redisKeyGenerator.paymentCacheKey(paymentId));
+        byte[] raw = paymentRedisTemplate.execute(
+            (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+        return raw == null ? ABSENT : raw;
+    }
+
+    /**
+     * expected 를 읽은 뒤 값이 바뀌지 않았을 때만 기록 (payment 가 null 이면 삭제)
+     * 재검증 도중 커밋 후 기록된 최신 상태를 이전 상태로 덮어쓰지 않기 위해 Redis 에서 원자적으로 비교
+     */
+    private boolean compareAndSet(String paymentId, byte[] expected, PaymentResDto payment) {
+        byte[] replacement = payment == null
+            ? ABSENT
+            : valueSerializer.serialize(new PaymentCacheEntry(payment, System.currentTimeMillis()));
+        Long updated = paymentRedisTemplate.execute(COMPARE_AND_SET_SCRIPT, RedisSerializer.byteArray(),
+            new GenericToStringSerializer<>(Long.class), List.of(redisKeyGenerator.paymentCacheKey(paymentId)),
+            expected, replacement, String.valueOf(ttl.toMillis()).getBytes(StandardCharsets.UTF_8));
+        return updated != null && updated > 0;
+    }
+
+    private Optional<PaymentResDto> load(String paymentId) {
+        return paymentRepository.findById(paymentId).map(PaymentResDto::from);
+    }
+
+    private Optional<PaymentResDto> loadFromPrimary(String paymentId) {
+        return primaryRead.execute(status -> load(paymentId));
+    }
+
+    /**
+     * 오래된 항목 백그라운드 재검증 (전용 bounded 풀, 큐 초과 시 다음 조회에서 재시도)
+     */
+    private void refreshAsync(String paymentId) {
+        if (!pendingRefreshes.add(paymentId)) {
+            return;
+        }
+
+        try {
+            paymentCacheRefreshExecutor.execute(() -> {
+                try {
+                    // DB 조회 전에 현재 값을 읽어 두고, 그 사이 다른 기록이 없을 때만 교체
+                    byte[] expected = readRaw(paymentId);
+                    Optional<PaymentResDto> loaded = loadFromPrimary(paymentId);
+                    if (!compareAndSet(paymentId, expected, loaded.orElse(null))) {
+                        log.debug("결제 캐시 재검증 중 갱신됨, 기록 생략: paymentId={}", paymentId);
+                    }
+                } catch (Exception e) {
+                    log.warn("결제 캐시 재검증 실패: paymentId={}, error={}", paymentId, e.getMessage());
+                } finally {
+                    // Primary 조회 트랜잭션이 남긴 쓰기 기록이 풀 스레드에 남지 않도록 정리
+                    ReadYourWritesContext.clear();
+                    pendingRefreshes.remove(paymentId);
+                }
+            });
+
+        } catch (TaskRejectedException e) {
+            pendingRefreshes.remove(paymentId);
+            refreshRejectedCounter.increment();
+        }
+    }
+}
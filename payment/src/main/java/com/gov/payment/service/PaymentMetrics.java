@@ -1,5 +1,9 @@
 package com.gov.payment.service;
 
+import static com.gov.payment.constant.PaymentConstants.METRIC_PAYMENT_PROCESSING;
+import static com.gov.payment.constant.PaymentConstants.METRIC_PAYMENT_STAGE;
+
+import com.gov.payment.utils.TimeBucketedCounters;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -9,15 +13,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Component
 public class PaymentMetrics {
 
+    // 단계 처리 결과 태그
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_TIMEOUT = "timeout";
+    public static final String OUTCOME_SKIPPED = "skipped";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_COMPLETED = "completed";
+    public static final String OUTCOME_FAILED = "failed";
+
     private final MeterRegistry meterRegistry;
 
     // 결제 관련 카운터
@@ -26,25 +41,26 @@ public class PaymentMetrics {
     private final Counter couponValidationFailureCounter;
     private final Counter pgFailureCounter;
 
-    // 결제 처리 시간 측정
-    private final Timer paymentProcessingTimer;
+    // 결제 처리 시간 측정 (processPayment → 종료 이벤트, 결과별)
+    private final Map<String, Timer> processingTimers = new ConcurrentHashMap<>();
 
-    // 실시간 통계를 위한 게이지
-    private final AtomicLong totalPaymentCount = new AtomicLong(0);
-    private final AtomicLong totalSuccessCount = new AtomicLong(0);
-    private final AtomicLong totalFailureCount = new AtomicLong(0);
-    private final AtomicLong totalPaymentAmount = new AtomicLong(0);
+    // BPMN 단계별 처리 시간 (activityId + 결과별)
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
 
-    // 일별 통계
-    private final AtomicLong todayPaymentCount = new AtomicLong(0);
-    private final AtomicLong todaySuccessCount = new AtomicLong(0);
-    private final AtomicLong todayFailureCount = new AtomicLong(0);
+    // 실시간 통계를 위한 게이지 (경합 시 스트라이핑되는 LongAdder)
+    private final LongAdder totalSuccessCount = new LongAdder();
+    private final LongAdder totalFailureCount = new LongAdder();
+    private final LongAdder totalPaymentAmount = new LongAdder();
 
-    private String currentDate;
+    // 일별 통계 - KST 자정 기준 일 버킷 링 (최근 8일 보관, 일자 변경 시 자동 전환)
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final int DAILY_SUCCESS = 0;
+    private static final int DAILY_FAILURE = 1;
+    private final TimeBucketedCounters dailyCounters =
+        new TimeBucketedCounters(Duration.ofDays(1), 8, 2, KST);
 
     public PaymentMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
-        this.currentDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
         // 카운터 초기화 - 직접 생성 방법
         this.paymentSuccessCounter = meterRegistry.counter("payment.success.total",
@@ -59,9 +75,6 @@ public class PaymentMetrics {
         this.pgFailureCounter = meterRegistry.counter("payment.pg.failure",
             "type", "pg_failure");
 
-        // 타이머 초기화 - 직접 생성 방법
-        this.paymentProcessingTimer = meterRegistry.timer("payment.processing.time");
-
         // 게이지 등록
         registerGauges();
 
@@ -70,18 +83,18 @@ public class PaymentMetrics {
 
     private void registerGauges() {
         // 전체 통계 게이지 - 직접 등록 방법
-        meterRegistry.gauge("payment.total.count", totalPaymentCount, AtomicLong::get);
-        meterRegistry.gauge("payment.success.count", totalSuccessCount, AtomicLong::get);
-        meterRegistry.gauge("payment.failure.count", totalFailureCount, AtomicLong::get);
-        meterRegistry.gauge("payment.total.amount", totalPaymentAmount, AtomicLong::get);
+        meterRegistry.gauge("payment.total.count", this, PaymentMetrics::getTotalPaymentCount);
+        meterRegistry.gauge("payment.success.count", totalSuccessCount, LongAdder::sum);
+        meterRegistry.gauge("payment.failure.count", totalFailureCount, LongAdder::sum);
+        meterRegistry.gauge("payment.total.amount", totalPaymentAmount, LongAdder::sum);
 
         // 성공률 게이지
         meterRegistry.gauge("payment.success.rate", this, PaymentMetrics::getSuccessRate);
 
         // 일별 통계 게이지
-        meterRegistry.gauge("payment.today.count", todayPaymentCount, AtomicLong::get);
-        meterRegistry.gauge("payment.today.success", todaySuccessCount, AtomicLong::get);
-        meterRegistry.gauge("payment.today.failure", todayFailureCount, AtomicLong::get);
+        meterRegistry.gauge("payment.today.count", this, PaymentMetrics::getTodayPaymentCount);
+        meterRegistry.gauge("payment.today.success", this, PaymentMetrics::getTodaySuccessCount);
+        meterRegistry.gauge("payment.today.failure", this, PaymentMetrics::getTodayFailureCount);
         meterRegistry.gauge("payment.today.success.rate", this, PaymentMetrics::getTodaySuccessRate);
     }
 
@@ -90,14 +103,8 @@ public class PaymentMetrics {
      */
     public void incrementPaymentSuccess() {
         paymentSuccessCounter.increment();
-        totalPaymentCount.incrementAndGet();
-        totalSuccessCount.incrementAndGet();
-
-        checkAndResetDailyCounters();
-        todayPaymentCount.incrementAndGet();
-        todaySuccessCount.incrementAndGet();
-
-        log.debug("결제 성공 메트릭 증가: 총 성공 건수={}", totalSuccessCount.get());
+        totalSuccessCount.increment();
+        dailyCounters.increment(DAILY_SUCCESS);
     }
 
     /**
@@ -105,14 +112,8 @@ public class PaymentMetrics {
      */
     public void incrementPaymentFailure() {
         paymentFailureCounter.increment();
-        totalPaymentCount.incrementAndGet();
-        totalFailureCount.incrementAndGet();
-
-        checkAndResetDailyCounters();
-        todayPaymentCount.incrementAndGet();
-        todayFailureCount.incrementAndGet();
-
-        log.debug("결제 실패 메트릭 증가: 총 실패 건수={}", totalFailureCount.get());
+        totalFailureCount.increment();
+        dailyCounters.increment(DAILY_FAILURE);
     }
 
     /**
@@ -120,7 +121,6 @@ public class PaymentMetrics {
      */
     public void incrementCouponValidationFailure() {
         couponValidationFailureCounter.increment();
-        log.debug("쿠폰 검증 실패 메트릭 증가");
     }
 
     /**
@@ -128,7 +128,6 @@ public class PaymentMetrics {
      */
     public void incrementPgFailure() {
         pgFailureCounter.increment();
-        log.debug("PG 결제 실패 메트릭 증가");
     }
 
     /**
@@ -136,8 +135,7 @@ public class PaymentMetrics {
      */
     public void recordPaymentAmount(BigDecimal amount) {
         if (amount != null && amount.compareTo(BigDecimal.ZERO) > 0) {
-            totalPaymentAmount.addAndGet(amount.longValue());
-            log.debug("결제 금액 메트릭 추가: amount={}, 총액={}", amount, totalPaymentAmount.get());
+            totalPaymentAmount.add(amount.longValue());
         }
     }
 
@@ -149,85 +147,110 @@ public class PaymentMetrics {
     }
 
     /**
-     * 결제 처리 시간 종료 및 기록
+     * BPMN 단계 처리 시간 기록 (activityId 별 타이머)
      */
-    public void recordPaymentProcessingTime(Timer.Sample sample) {
-        if (sample != null) {
-            sample.stop(paymentProcessingTimer);
+    public void recordStage(Timer.Sample sample, String activityId, String outcome) {
+        if (sample == null || activityId == null) {
+            return;
         }
+        Timer timer = stageTimers.computeIfAbsent(activityId + ":" + outcome,
+            key -> latencyTimer(METRIC_PAYMENT_STAGE, "activity", activityId, "outcome", outcome));
+        sample.stop(timer);
     }
 
     /**
-     * 결제 처리 시간 직접 기록 (밀리초)
+     * 결제 요청부터 종료 이벤트까지의 처리 시간 기록
+     * 비동기 구간이 있어도 측정되도록 프로세스 변수에 저장된 시작 시각(epoch millis) 기준
      */
-    public void recordPaymentProcessingTime(long milliseconds) {
-        paymentProcessingTimer.record(milliseconds, TimeUnit.MILLISECONDS);
+    public void recordEndToEnd(Long startedAtMillis, String outcome) {
+        if (startedAtMillis == null) {
+            return;
+        }
+        long elapsed = Math.max(0, System.currentTimeMillis() - startedAtMillis);
+        processingTimers.computeIfAbsent(outcome,
+                key -> latencyTimer(METRIC_PAYMENT_PROCESSING, "outcome", outcome))
+            .record(elapsed, TimeUnit.MILLISECONDS);
+    }
+
+    private Timer latencyTimer(String name, String... tags) {
+        return Timer.builder(name)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+    }
+
+    public long getTotalPaymentCount() {
+        return totalSuccessCount.sum() + totalFailureCount.sum();
+    }
+
+    public long getTodaySuccessCount() {
+        return dailyCounters.get(dailyCounters.currentBucketId(), DAILY_SUCCESS);
+    }
+
+    public long getTodayFailureCount() {
+        return dailyCounters.get(dailyCounters.currentBucketId(), DAILY_FAILURE);
+    }
+
+    public long getTodayPaymentCount() {
+        return getTodaySuccessCount() + getTodayFailureCount();
     }
 
     /**
      * 전체 결제 성공률 계산
      */
     public double getSuccessRate() {
-        long total = totalPaymentCount.get();
+        long success = totalSuccessCount.sum();
+        long total = success + totalFailureCount.sum();
         if (total == 0) {
             return 0.0;
         }
-        return (double) totalSuccessCount.get() / total * 100.0;
+        return (double) success / total * 100.0;
     }
 
     /**
      * 오늘 결제 성공률 계산
      */
     public double getTodaySuccessRate() {
-        long todayTotal = todayPaymentCount.get();
+        long todaySuccess = getTodaySuccessCount();
+        long todayTotal = todaySuccess + getTodayFailureCount();
         if (todayTotal == 0) {
             return 0.0;
         }
-        return (double) todaySuccessCount.get() / todayTotal * 100.0;
+        return (double) todaySuccess / todayTotal * 100.0;
     }
 
     /**
      * 현재 통계 정보 반환
      */
     public PaymentStatistics getCurrentStatistics() {
+        long totalSuccess = totalSuccessCount.sum();
+        long totalFailure = totalFailureCount.sum();
+        long todaySuccess = getTodaySuccessCount();
+        long todayFailure = getTodayFailureCount();
+
         return PaymentStatistics.builder()
-            .totalPaymentCount(totalPaymentCount.get())
-            .totalSuccessCount(totalSuccessCount.get())
-            .totalFailureCount(totalFailureCount.get())
-            .totalPaymentAmount(totalPaymentAmount.get())
+            .totalPaymentCount(totalSuccess + totalFailure)
+            .totalSuccessCount(totalSuccess)
+            .totalFailureCount(totalFailure)
+            .totalPaymentAmount(totalPaymentAmount.sum())
             .successRate(getSuccessRate())
-            .todayPaymentCount(todayPaymentCount.get())
-            .todaySuccessCount(todaySuccessCount.get())
-            .todayFailureCount(todayFailureCount.get())
+            .todayPaymentCount(todaySuccess + todayFailure)
+            .todaySuccessCount(todaySuccess)
+            .todayFailureCount(todayFailure)
             .todaySuccessRate(getTodaySuccessRate())
             .build();
     }
 
-    /**
-     * 일자 변경 체크 및 일별 카운터 리셋
-     */
-    private void checkAndResetDailyCounters() {
-        String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        if (!today.equals(currentDate)) {
-            log.info("일자 변경 감지: {} -> {}, 일별 카운터 초기화", currentDate, today);
-            currentDate = today;
-            todayPaymentCount.set(0);
-            todaySuccessCount.set(0);
-            todayFailureCount.set(0);
-        }
-    }
-
     /**
      * 메트릭 리셋 (테스트 및 초기화 용도)
      */
     public void resetMetrics() {
-        totalPaymentCount.set(0);
-        totalSuccessCount.set(0);
-        totalFailureCount.set(0);
-        totalPaymentAmount.set(0);
-        todayPaymentCount.set(0);
-        todaySuccessCount.set(0);
-        todayFailureCount.set(0);
+        totalSuccessCount.reset();
+        totalFailureCount.reset();
+        totalPaymentAmount.reset();
+        dailyCounters.reset();
 
         log.info("PaymentMetrics 초기화 완료");
     }
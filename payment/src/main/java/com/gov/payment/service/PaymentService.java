@@ -6,11 +6,14 @@ import com.gov.core.entity.User;
 import com.gov.core.repository.CouponRepository;
 import com.gov.core.repository.MerchantRepository;
 import com.gov.core.repository.UserRepository;
+import com.gov.core.service.ReferenceDataCacheService;
+import com.gov.payment.constant.PaymentConstants;
 import com.gov.payment.dto.PaymentReqDto;
 import com.gov.payment.dto.PaymentResDto;
 import com.gov.payment.dto.PaymentSearchDto;
 import com.gov.payment.entity.Payment;
 import com.gov.payment.entity.PaymentStatus;
+import com.gov.payment.jfr.PaymentRequestEvent;
 import com.gov.payment.repository.PaymentRepository;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.RuntimeService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -32,21 +36,40 @@ public class PaymentService {
     private final UserRepository userRepository;
     private final MerchantRepository merchantRepository;
     private final CouponRepository couponRepository;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final PaymentCacheService paymentCacheService;
     private final RuntimeService runtimeService;
 
     /**
      * 결제 요청 처리 (Camunda 워크플로우 시작)
      */
     public PaymentResDto processPayment(PaymentReqDto request) {
-        log.info("결제 요청 시작: userId={}, merchantId={}, couponId={}, amount={}",
-            request.userId(), request.merchantId(), request.couponId(), request.amount());
+        PaymentRequestEvent event = new PaymentRequestEvent();
+        event.begin();
+        PaymentResDto response = null;
+        try {
+            response = startPayment(request);
+            return response;
+        } finally {
+            commitRequestEvent(event, request, response);
+        }
+    }
+
+    private PaymentResDto startPayment(PaymentReqDto request) {
+        long startedAt = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("결제 요청 시작: userId={}, merchantId={}, couponId={}, amount={}",
+                request.userId(), request.merchantId(), request.couponId(), request.amount());
+        }
 
-        // 1. 연관 엔티티 조회
-        User user = userRepository.findById(request.userId())
+        // 1. 연관 엔티티 조회 (사용자/가맹점은 캐시로 존재 확인 후 프록시 참조)
+        referenceDataCacheService.findUser(request.userId())
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.userId()));
+        User user = userRepository.getReferenceById(request.userId());
 
-        Merchant merchant = merchantRepository.findById(request.merchantId())
+        referenceDataCacheService.findMerchant(request.merchantId())
             .orElseThrow(() -> new IllegalArgumentException("가맹점을 찾을 수 없습니다: " + request.merchantId()));
+        Merchant merchant = merchantRepository.getReferenceById(request.merchantId());
 
         Coupon coupon = couponRepository.findById(request.couponId())
             .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + request.couponId()));
@@ -71,6 +94,7 @@ public class PaymentService {
         variables.put("merchantId", request.merchantId());
         variables.put("couponId", request.couponId());
         variables.put("amount", request.amount());
+        variables.put(PaymentConstants.VAR_PROCESS_STARTED_AT, startedAt);
 
         String processInstanceId = runtimeService
             .startProcessInstanceByKey("PaymentProcess", paymentId, variables)
@@ -79,22 +103,36 @@ public class PaymentService {
         // 5. 프로세스 인스턴스 ID 업데이트
         payment.assignProcessInstance(processInstanceId);
         paymentRepository.save(payment);
+        paymentCacheService.put(payment);
 
-        log.info("결제 워크플로우 시작 완료: paymentId={}, processInstanceId={}",
+        log.debug("결제 워크플로우 시작 완료: paymentId={}, processInstanceId={}",
             paymentId, processInstanceId);
 
         return PaymentResDto.from(payment);
     }
 
+    private void commitRequestEvent(PaymentRequestEvent event, PaymentReqDto request, PaymentResDto response) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setPaymentId(response != null ? response.paymentId() : null);
+        event.setUserId(request.userId());
+        event.setMerchantId(request.merchantId());
+        event.setCouponId(request.couponId());
+        event.setAmount(request.amount() != null ? request.amount().longValue() : 0L);
+        event.setOutcome(response != null ? "started" : "error");
+        event.commit();
+    }
+
     /**
-     * 결제 상태 조회
+     * 결제 상태 조회 (Redis 캐시 우선)
+     * 캐시 적중 시 트랜잭션/커넥션을 열지 않도록 SUPPORTS - 미스 시 리포지토리 조회가 자체 읽기 트랜잭션 사용
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PaymentResDto getPayment(String paymentId) {
-        Payment payment = paymentRepository.findById(paymentId)
+        return paymentCacheService.get(paymentId)
             .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + paymentId));
-
-        return PaymentResDto.from(payment);
     }
 
     /**
@@ -156,7 +194,7 @@ public class PaymentService {
             throw new IllegalStateException("완료된 결제만 취소할 수 있습니다");
         }
 
-        log.info("결제 취소 요청: paymentId={}", paymentId);
+        log.debug("결제 취소 요청: paymentId={}", paymentId);
 
         // Camunda 메시지 전송으로 취소 프로세스 시작
         runtimeService.createMessageCorrelation("PaymentCancelMessage")
@@ -187,9 +225,12 @@ public class PaymentService {
         }
 
         paymentRepository.save(payment);
+        paymentCacheService.put(payment);
 
-        log.info("결제 상태 업데이트: paymentId={}, status={}, pgTransactionId={}",
-            paymentId, status, pgTransactionId);
+        if (log.isDebugEnabled()) {
+            log.debug("결제 상태 업데이트: paymentId={}, status={}, pgTransactionId={}",
+                paymentId, status, pgTransactionId);
+        }
     }
 
     /**
@@ -205,7 +246,8 @@ public class PaymentService {
         }
 
         paymentRepository.save(payment);
-        log.info("결제 완료 처리: paymentId={}, pgTransactionId={}", paymentId, pgTransactionId);
+        paymentCacheService.put(payment);
+        log.debug("결제 완료 처리: paymentId={}, pgTransactionId={}", paymentId, pgTransactionId);
     }
 
     /**
@@ -217,7 +259,8 @@ public class PaymentService {
 
         payment.markAsFailed(failureReason);
         paymentRepository.save(payment);
-        log.info("결제 실패 처리: paymentId={}, failureReason={}", paymentId, failureReason);
+        paymentCacheService.put(payment);
+        log.debug("결제 실패 처리: paymentId={}, failureReason={}", paymentId, failureReason);
     }
 
     /**
@@ -0,0 +1,163 @@
+package com.gov.payment.service;
+
+import com.gov.core.redis.RedisKeySpace;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 키 정리 작업 (주기 실행 전용)
+ * KEYS 대신 커서 기반 SCAN(COUNT 힌트)으로 조금씩 순회하고,
+ * 초당 처리량 제한과 실행 시간 예산을 두어 Redis를 블로킹하지 않도록 함
+ * 시간 예산으로 중단되면 SCAN 커서를 Redis 에 저장해 두고 다음 실행에서 이어서 순회
+ */
+@Slf4j
+@Service
+public class RedisMaintenanceService {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long NO_EXPIRY = -1L;
+    private static final String START_CURSOR = "0";
+
+    // 저장된 커서가 오래 방치되면 처음부터 다시 순회
+    private static final Duration CURSOR_TTL = Duration.ofDays(1);
+
+    // 커서를 지정한 SCAN 한 번 - 응답: [다음 커서, [키...]]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCAN_SCRIPT = new DefaultRedisScript<>(
+        "return redis.call('scan', ARGV[1], 'match', ARGV[2], 'count', ARGV[3])", List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long scanCount;
+    private final Duration timeBudget;
+    private final int maxKeysPerSecond;
+
+    public RedisMaintenanceService(RedisTemplate<String, String> redisTemplate,
+        @Value("${payment.maintenance.scan-count:500}") long scanCount,
+        @Value("${payment.maintenance.time-budget:30s}") Duration timeBudget,
+        @Value("${payment.maintenance.max-keys-per-second:2000}") int maxKeysPerSecond) {
+        this.redisTemplate = redisTemplate;
+        this.scanCount = scanCount;
+        this.timeBudget = timeBudget;
+        this.maxKeysPerSecond = Math.max(1, maxKeysPerSecond);
+    }
+
+    /**
+     * 패턴에 해당하는 키 중 TTL이 없는(정리되지 않고 남은) 키 삭제
+     * 시간 예산을 초과하면 중단하고 다음 주기에 저장된 커서부터 이어서 순회
+     */
+    @SuppressWarnings("unchecked")
+    public SweepResult sweepKeysWithoutTtl(String pattern) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + timeBudget.toNanos();
+        long scanned = 0;
+        long deleted = 0;
+        long scanCalls = 0;
+        boolean completed = false;
+
+        String cursorKey = RedisKeySpace.MAINTENANCE_CURSOR.key(pattern);
+        String savedCursor = redisTemplate.opsForValue().get(cursorKey);
+        String cursor = savedCursor != null ? savedCursor : START_CURSOR;
+
+        try {
+            while (System.nanoTime() <= deadline) {
+                List<Object> reply = redisTemplate.execute(SCAN_SCRIPT, List.of(),
+                    cursor, pattern, String.valueOf(scanCount));
+                cursor = (String) reply.get(0);
+                List<String> keys = (List<String>) reply.get(1);
+                scanned += keys.size();
+
+                for (int from = 0; from < keys.size(); from += BATCH_SIZE) {
+                    deleted += deleteKeysWithoutTtl(keys.subList(from, Math.min(from + BATCH_SIZE, keys.size())));
+                }
+
+                if (START_CURSOR.equals(cursor)) {
+                    completed = true;
+                    break;
+                }
+
+                // MATCH 결과가 적어도 SCAN 한 번은 COUNT 만큼 슬롯을 훑으므로 일치 키 수가 아닌 호출 단위로 제한
+                scanCalls++;
+                throttle(scanCalls * scanCount, startNanos);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            saveCursor(cursorKey, completed ? null : cursor);
+        }
+
+        SweepResult result = new SweepResult(pattern, scanned, deleted, completed,
+            Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+
+        if (!completed) {
+            log.info("Redis 키 정리 시간 예산 초과로 중단, 다음 실행에서 이어서 순회: cursor={}, {}", cursor, result);
+        } else {
+            log.debug("Redis 키 정리 완료: {}", result);
+        }
+        return result;
+    }
+
+    /**
+     * 중단 지점 커서 저장 (순회 완료 시 삭제 - 다음 실행은 처음부터)
+     */
+    private void saveCursor(String cursorKey, String cursor) {
+        try {
+            if (cursor == null || START_CURSOR.equals(cursor)) {
+                redisTemplate.delete(cursorKey);
+            } else {
+                redisTemplate.opsForValue().set(cursorKey, cursor, CURSOR_TTL);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 키 정리 커서 저장 실패: key={}, error={}", cursorKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 단위로 TTL을 파이프라인 조회 후 TTL 없는 키만 UNLINK
+     */
+    private long deleteKeysWithoutTtl(List<String> keys) {
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().ttl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<String> orphanKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size() && i < ttls.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl == NO_EXPIRY) {
+                orphanKeys.add(keys.get(i));
+            }
+        }
+
+        if (orphanKeys.isEmpty()) {
+            return 0;
+        }
+
+        Long removed = redisTemplate.unlink(orphanKeys);
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 초당 순회 키 수 제한 - 순회량(SCAN 호출 수 x COUNT)이 한도를 앞서면 그만큼 대기
+     */
+    private void throttle(long processed, long startNanos) throws InterruptedException {
+        long expectedNanos = processed * 1_000_000_000L / maxKeysPerSecond;
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (expectedNanos > elapsedNanos) {
+            Thread.sleep(Duration.ofNanos(expectedNanos - elapsedNanos).toMillis());
+        }
+    }
+
+    public record SweepResult(String pattern, long scanned, long deleted, boolean completed, long elapsedMillis) {
+    }
+}
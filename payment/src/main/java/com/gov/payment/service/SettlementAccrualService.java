@@ -0,0 +1,147 @@
+package com.gov.payment.service;
+
+import com.gov.core.repository.MerchantRepository;
+import com.gov.payment.entity.Settlement;
+import com.gov.payment.entity.SettlementAccrual;
+import com.gov.payment.entity.SettlementDetail;
+import com.gov.payment.entity.SettlementStatus;
+import com.gov.payment.repository.SettlementAccrualRepository;
+import com.gov.payment.repository.SettlementRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 정산 스트라이프 집계 서비스
+ * 결제마다 settlements 단일 행을 갱신하지 않고 N개의 부분 집계 행 중 하나에 누적한 뒤
+ * 정산 마감(일별 배치) 시 합산하여 반영
+ */
+@Slf4j
+@Service
+public class SettlementAccrualService {
+
+    private final SettlementRepository settlementRepository;
+    private final SettlementAccrualRepository settlementAccrualRepository;
+    private final MerchantRepository merchantRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int stripes;
+
+    public SettlementAccrualService(SettlementRepository settlementRepository,
+        SettlementAccrualRepository settlementAccrualRepository,
+        MerchantRepository merchantRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${settlement.accrual.stripes:16}") int stripes) {
+        this.settlementRepository = settlementRepository;
+        this.settlementAccrualRepository = settlementAccrualRepository;
+        this.merchantRepository = merchantRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = Math.max(1, stripes);
+    }
+
+    /**
+     * 정산 행과 스트라이프 행 생성 (별도 트랜잭션)
+     * (merchant_id, settlement_date) 유니크 키 위반 시 DataIntegrityViolationException 전파 -
+     * 호출 측에서 동시 생성된 행을 재조회
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createSettlement(String settlementId, String merchantId, LocalDate settlementDate) {
+        Settlement settlement = Settlement.createForMerchant(
+            settlementId,
+            merchantRepository.getReferenceById(merchantId),
+            settlementDate
+        );
+        settlementRepository.saveAndFlush(settlement);
+
+        List<SettlementAccrual> accruals = new ArrayList<>(stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            accruals.add(SettlementAccrual.createStripe(settlementId, stripe));
+        }
+        settlementAccrualRepository.saveAll(accruals);
+
+        log.info("정산 생성: settlementId={}, merchantId={}, settlementDate={}, stripes={}",
+            settlementId, merchantId, settlementDate, stripes);
+    }
+
+    /**
+     * 정산 상세 금액을 임의 스트라이프에 누적 (PENDING 정산에만)
+     * 스트라이프 행이 없으면 (stripes 설정 증가, 도입 이전 정산) 생성 후 한 번 재시도
+     */
+    @Transactional
+    public void accrue(String settlementId, SettlementDetail detail) {
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        int updated = accrueOnStripe(settlementId, stripe, detail);
+        if (updated == 0) {
+            createStripeIfMissing(settlementId, stripe);
+            updated = accrueOnStripe(settlementId, stripe, detail);
+        }
+
+        if (updated == 0) {
+            throw new IllegalStateException("PENDING 상태의 정산 집계 스트라이프를 찾을 수 없습니다: "
+                + settlementId + ", stripe=" + stripe);
+        }
+    }
+
+    private int accrueOnStripe(String settlementId, int stripe, SettlementDetail detail) {
+        return settlementAccrualRepository.accrue(
+            SettlementAccrual.accrualId(settlementId, stripe),
+            SettlementStatus.PENDING,
+            detail.getAmount(),
+            detail.getEffectiveCommissionAmount(),
+            detail.getNetAmount()
+        );
+    }
+
+    /**
+     * 스트라이프 행 생성 (별도 트랜잭션) - 동시 생성으로 인한 유니크 키 위반은 이미 존재하는 것으로 간주
+     * 별도 트랜잭션이므로 위반이 발생해도 호출 측 트랜잭션은 롤백 대상이 되지 않음
+     */
+    private void createStripeIfMissing(String settlementId, int stripe) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> settlementAccrualRepository.insertStripe(
+                SettlementAccrual.accrualId(settlementId, stripe), settlementId, stripe, LocalDateTime.now()));
+            log.info("정산 집계 스트라이프 생성: settlementId={}, stripe={}", settlementId, stripe);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("정산 집계 스트라이프 동시 생성 감지: settlementId={}, stripe={}", settlementId, stripe);
+        }
+    }
+
+    /**
+     * 스트라이프 합산 결과를 정산 행에 반영 (합계로 덮어쓰므로 반복 실행해도 동일)
+     */
+    @Transactional
+    public Settlement merge(Settlement settlement) {
+        List<SettlementAccrual> accruals = settlementAccrualRepository.findBySettlementId(
+            settlement.getSettlementId());
+        if (accruals.isEmpty()) {
+            return settlement;
+        }
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal commissionAmount = BigDecimal.ZERO;
+        BigDecimal netAmount = BigDecimal.ZERO;
+        int transactionCount = 0;
+
+        for (SettlementAccrual accrual : accruals) {
+            totalAmount = totalAmount.add(accrual.getTotalAmount());
+            commissionAmount = commissionAmount.add(accrual.getCommissionAmount());
+            netAmount = netAmount.add(accrual.getNetAmount());
+            transactionCount += accrual.getTransactionCount();
+        }
+
+        settlement.applyAccruedTotals(totalAmount, commissionAmount, netAmount, transactionCount);
+        return settlementRepository.save(settlement);
+    }
+}
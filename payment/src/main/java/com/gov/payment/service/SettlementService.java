@@ -2,6 +2,7 @@ package com.gov.payment.service;
 
 import com.gov.core.entity.Merchant;
 import com.gov.core.repository.MerchantRepository;
+import com.gov.core.service.ReferenceDataCacheService;
 import com.gov.payment.dto.SettlementResDto;
 import com.gov.payment.entity.Payment;
 import com.gov.payment.entity.Settlement;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,8 @@ public class SettlementService {
     private final SettlementRepository settlementRepository;
     private final SettlementDetailRepository settlementDetailRepository;
     private final MerchantRepository merchantRepository;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final SettlementAccrualService settlementAccrualService;
 
     /**
      * 결제 완료 시 정산 데이터 생성
@@ -64,14 +68,24 @@ public class SettlementService {
      */
     @Transactional
     public void processDailySettlement(String merchantId, LocalDate settlementDate) {
-        Merchant merchant = merchantRepository.findById(merchantId)
+        referenceDataCacheService.findMerchant(merchantId)
             .orElseThrow(() -> new IllegalArgumentException("가맹점을 찾을 수 없습니다: " + merchantId));
+        Merchant merchant = merchantRepository.getReferenceById(merchantId);
 
         Settlement settlement = getOrCreateSettlement(merchant, settlementDate);
 
-        // 정산 상세에서 집계 데이터 재계산
-        settlement.recalculateFromDetails();
-        settlementRepository.save(settlement);
+        // 결제 시점에 스트라이프로 누적된 집계를 정산 행에 합산 반영
+        if (settlement.isPending()) {
+            settlement = settlementAccrualService.merge(settlement);
+        }
+
+        // 정합성 검증 후 불일치 시에만 상세 기준 재계산
+        if (settlement.isPending() &&
+            !(settlement.isDetailAmountConsistent() && settlement.isDetailCommissionConsistent())) {
+            log.warn("정산 집계 불일치 보정: settlementId={}", settlement.getSettlementId());
+            settlement.recalculateFromDetails();
+            settlementRepository.save(settlement);
+        }
 
         log.info("일별 정산 처리 완료: merchantId={}, settlementDate={}, totalAmount={}",
             merchantId, settlementDate, settlement.getTotalAmount());
@@ -171,19 +185,33 @@ public class SettlementService {
         return SettlementResDto.from(settlement);
     }
 
+    /**
+     * (merchant_id, settlement_date) 정산 행 조회, 없으면 생성
+     * 동시 생성 시 유니크 키 충돌은 먼저 생성된 행을 재조회하여 해소
+     * 재조회는 잠금 읽기로 수행 - REPEATABLE READ 에서는 일반 SELECT 가 이미 고정된 스냅샷을 읽어 다른 트랜잭션이 만든 행이 보이지 않음
+     */
     private Settlement getOrCreateSettlement(Merchant merchant, LocalDate settlementDate) {
-        return settlementRepository.findByMerchant_MerchantIdAndSettlementDate(merchant.getMerchantId(), settlementDate)
+        String merchantId = merchant.getMerchantId();
+        return settlementRepository.findByMerchant_MerchantIdAndSettlementDate(merchantId, settlementDate)
             .orElseGet(() -> {
-                Settlement newSettlement = Settlement.createForMerchant(
-                    generateSettlementId(),
-                    merchant,
-                    settlementDate
-                );
-                return settlementRepository.save(newSettlement);
+                try {
+                    settlementAccrualService.createSettlement(generateSettlementId(), merchantId, settlementDate);
+                } catch (DataIntegrityViolationException e) {
+                    log.debug("정산 동시 생성 감지, 기존 행 사용: merchantId={}, settlementDate={}",
+                        merchantId, settlementDate);
+                }
+                return settlementRepository.findForShareByMerchantIdAndSettlementDate(merchantId, settlementDate)
+                    .orElseThrow(() -> new IllegalStateException(
+                        "정산 생성에 실패했습니다: merchantId=" + merchantId + ", settlementDate=" + settlementDate));
             });
     }
 
     private void createSettlementDetail(Settlement settlement, Payment payment) {
+        if (!settlement.isPending()) {
+            throw new IllegalStateException("PENDING 상태의 정산에만 상세를 추가할 수 있습니다: "
+                + settlement.getSettlementId());
+        }
+
         // 기본 수수료율 (3%)
         BigDecimal commissionRate = settlement.getEffectiveCommissionRate().equals(BigDecimal.ZERO)
             ? new BigDecimal("0.03")
@@ -198,13 +226,10 @@ public class SettlementService {
         );
 
         settlementDetailRepository.save(detail);
-
-        settlement.addSettlementDetail(detail);
         payment.addSettlementDetail(detail);
 
-        // 정산 집계 데이터 재계산
-        settlement.recalculateFromDetails();
-        settlementRepository.save(settlement);
+        // 정산 행 대신 스트라이프 행에 누적 (마감 시 merge)
+        settlementAccrualService.accrue(settlement.getSettlementId(), detail);
     }
 
     /**
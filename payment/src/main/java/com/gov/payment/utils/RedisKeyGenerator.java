@@ -1,214 +1,157 @@
 package com.gov.payment.utils;
 
+import com.gov.core.redis.RedisKeySpace;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * 결제 모듈 Redis 키 생성기 - 공용 키 스키마(RedisKeySpace) 위임
+ * 키 생성은 핫 패스에서 호출되므로 입력 검증/로그 없이 프리픽스만 이어 붙인다 (ID 는 호출 측에서 생성/검증된 값)
+ */
 @Component
-@Slf4j
 public class RedisKeyGenerator {
 
-    // 키 프리픽스 상수들
-    private static final String COUPON_BALANCE_PREFIX = "coupon:balance:";
-    private static final String COUPON_LOCK_PREFIX = "coupon:lock:";
-    private static final String PAYMENT_CACHE_PREFIX = "payment:cache:";
-    private static final String PAYMENT_TEMP_PREFIX = "payment:temp:";
-    private static final String USER_SESSION_PREFIX = "user:session:";
-    private static final String MERCHANT_CACHE_PREFIX = "merchant:cache:";
-    private static final String DAILY_STATS_PREFIX = "stats:daily:";
-    private static final String RATE_LIMIT_PREFIX = "rate:limit:";
-
-    // 네임스페이스
-    private static final String NAMESPACE = "gov:payment:";
-
     // 날짜 포맷터
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter MINUTE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
 
     /**
      * 쿠폰 잔액 키 생성
-     * 형태: gov:payment:coupon:balance:COUPON_001
+     * 형태: coupon:balance:COUPON_001
      */
     public String couponBalanceKey(String couponId) {
-        validateInput(couponId, "couponId");
-        String key = NAMESPACE + COUPON_BALANCE_PREFIX + couponId;
-        log.debug("쿠폰 잔액 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.COUPON_BALANCE.key(couponId);
     }
 
     /**
      * 쿠폰 락 키 생성
-     * 형태: gov:payment:coupon:lock:COUPON_001
+     * 형태: coupon:lock:COUPON_001
      */
     public String couponLockKey(String couponId) {
-        validateInput(couponId, "couponId");
-        String key = NAMESPACE + COUPON_LOCK_PREFIX + couponId;
-        log.debug("쿠폰 락 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.COUPON_LOCK.key(couponId);
     }
 
     /**
      * 결제 캐시 키 생성
-     * 형태: gov:payment:payment:cache:PAY_001
+     * 형태: payment:cache:PAY_001
      */
     public String paymentCacheKey(String paymentId) {
-        validateInput(paymentId, "paymentId");
-        String key = NAMESPACE + PAYMENT_CACHE_PREFIX + paymentId;
-        log.debug("결제 캐시 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.PAYMENT_CACHE.key(paymentId);
     }
 
     /**
      * 결제 임시 키 생성 (처리 중인 결제)
-     * 형태: gov:payment:payment:temp:PAY_001
+     * 형태: payment:temp:PAY_001
      */
     public String paymentTempKey(String paymentId) {
-        validateInput(paymentId, "paymentId");
-        String key = NAMESPACE + PAYMENT_TEMP_PREFIX + paymentId;
-        log.debug("결제 임시 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.PAYMENT_TEMP.key(paymentId);
     }
 
     /**
      * 사용자 세션 키 생성
-     * 형태: gov:payment:user:session:USER_001
+     * 형태: user:session:USER_001
      */
     public String userSessionKey(String userId) {
-        validateInput(userId, "userId");
-        String key = NAMESPACE + USER_SESSION_PREFIX + userId;
-        log.debug("사용자 세션 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.USER_SESSION.key(userId);
     }
 
     /**
      * 가맹점 캐시 키 생성
-     * 형태: gov:payment:merchant:cache:MERCHANT_001
+     * 형태: merchant:cache:MERCHANT_001
      */
     public String merchantCacheKey(String merchantId) {
-        validateInput(merchantId, "merchantId");
-        String key = NAMESPACE + MERCHANT_CACHE_PREFIX + merchantId;
-        log.debug("가맹점 캐시 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.MERCHANT_CACHE.key(merchantId);
     }
 
     /**
      * 일별 통계 키 생성
-     * 형태: gov:payment:stats:daily:20250125
+     * 형태: stats:daily:20250125
      */
     public String dailyStatsKey(LocalDate date) {
-        if (date == null) {
-            date = LocalDate.now();
-        }
-        String dateStr = date.format(DATE_FORMATTER);
-        String key = NAMESPACE + DAILY_STATS_PREFIX + dateStr;
-        log.debug("일별 통계 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.DAILY_STATS.key(formatDate(date));
     }
 
     /**
      * 가맹점별 일별 통계 키 생성
-     * 형태: gov:payment:stats:daily:20250125:MERCHANT_001
+     * 형태: stats:daily:20250125:MERCHANT_001
      */
     public String dailyStatsByMerchantKey(LocalDate date, String merchantId) {
-        validateInput(merchantId, "merchantId");
-        if (date == null) {
-            date = LocalDate.now();
-        }
-        String dateStr = date.format(DATE_FORMATTER);
-        String key = NAMESPACE + DAILY_STATS_PREFIX + dateStr + ":" + merchantId;
-        log.debug("가맹점별 일별 통계 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.DAILY_STATS.key(formatDate(date), merchantId);
     }
 
     /**
      * 사용자 요청 제한 키 생성
-     * 형태: gov:payment:rate:limit:USER_001:20250125
+     * 형태: rate:limit:USER_001:20250125
      */
     public String rateLimitKey(String userId) {
-        validateInput(userId, "userId");
-        String dateStr = LocalDate.now().format(DATE_FORMATTER);
-        String key = NAMESPACE + RATE_LIMIT_PREFIX + userId + ":" + dateStr;
-        log.debug("요청 제한 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.RATE_LIMIT.key(userId, LocalDate.now().format(DATE_FORMATTER));
     }
 
     /**
      * API별 요청 제한 키 생성
-     * 형태: gov:payment:rate:limit:api:processPayment:USER_001:202501251430
+     * 형태: rate:limit:api:processPayment:USER_001:202501251430
      */
     public String apiRateLimitKey(String apiName, String userId) {
-        validateInput(apiName, "apiName");
-        validateInput(userId, "userId");
-        String hourMinute = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
-        String key = NAMESPACE + RATE_LIMIT_PREFIX + "api:" + apiName + ":" + userId + ":" + hourMinute;
-        log.debug("API 요청 제한 키 생성: {}", key);
-        return key;
+        return RedisKeySpace.RATE_LIMIT.key("api:" + apiName + ":" + userId,
+            LocalDateTime.now().format(MINUTE_FORMATTER));
     }
 
     /**
      * 패턴 기반 키 검색용 패턴 생성
      */
     public String couponBalancePattern() {
-        return NAMESPACE + COUPON_BALANCE_PREFIX + "*";
+        return RedisKeySpace.COUPON_BALANCE.pattern();
     }
 
     public String paymentCachePattern() {
-        return NAMESPACE + PAYMENT_CACHE_PREFIX + "*";
+        return RedisKeySpace.PAYMENT_CACHE.pattern();
+    }
+
+    public String paymentTempPattern() {
+        return RedisKeySpace.PAYMENT_TEMP.pattern();
+    }
+
+    public String couponLockPattern() {
+        return RedisKeySpace.COUPON_LOCK.pattern();
     }
 
     public String userSessionPattern(String userId) {
-        validateInput(userId, "userId");
-        return NAMESPACE + USER_SESSION_PREFIX + userId + "*";
+        return RedisKeySpace.USER_SESSION.pattern(userId);
     }
 
     public String dailyStatsPattern(LocalDate date) {
         if (date == null) {
-            return NAMESPACE + DAILY_STATS_PREFIX + "*";
+            return RedisKeySpace.DAILY_STATS.pattern();
         }
-        String dateStr = date.format(DATE_FORMATTER);
-        return NAMESPACE + DAILY_STATS_PREFIX + dateStr + "*";
+        return RedisKeySpace.DAILY_STATS.pattern(date.format(DATE_FORMATTER));
     }
 
     /**
      * 키에서 ID 추출
      */
     public String extractCouponId(String couponBalanceKey) {
-        if (couponBalanceKey != null && couponBalanceKey.startsWith(NAMESPACE + COUPON_BALANCE_PREFIX)) {
-            return couponBalanceKey.substring((NAMESPACE + COUPON_BALANCE_PREFIX).length());
-        }
-        return null;
+        return RedisKeySpace.COUPON_BALANCE.idOf(couponBalanceKey);
     }
 
     public String extractPaymentId(String paymentCacheKey) {
-        if (paymentCacheKey != null && paymentCacheKey.startsWith(NAMESPACE + PAYMENT_CACHE_PREFIX)) {
-            return paymentCacheKey.substring((NAMESPACE + PAYMENT_CACHE_PREFIX).length());
-        }
-        return null;
+        return RedisKeySpace.PAYMENT_CACHE.idOf(paymentCacheKey);
     }
 
     /**
      * 키 유효성 검증
      */
     public boolean isValidCouponBalanceKey(String key) {
-        return key != null && key.startsWith(NAMESPACE + COUPON_BALANCE_PREFIX);
+        return RedisKeySpace.COUPON_BALANCE.owns(key);
     }
 
     public boolean isValidPaymentCacheKey(String key) {
-        return key != null && key.startsWith(NAMESPACE + PAYMENT_CACHE_PREFIX);
+        return RedisKeySpace.PAYMENT_CACHE.owns(key);
     }
 
-    /**
-     * 입력값 검증
-     */
-    private void validateInput(String input, String paramName) {
-        if (input == null || input.trim().isEmpty()) {
-            throw new IllegalArgumentException(paramName + "은(는) null이거나 빈 문자열일 수 없습니다.");
-        }
-
-        // 특수문자 제한 (Redis 키에 사용하면 안 되는 문자들)
-        if (input.contains(" ") || input.contains("\n") || input.contains("\r") || input.contains("\t")) {
-            throw new IllegalArgumentException(paramName + "에 공백 문자나 제어 문자가 포함될 수 없습니다.");
-        }
+    private static String formatDate(LocalDate date) {
+        return (date != null ? date : LocalDate.now()).format(DATE_FORMATTER);
     }
 
     /**
@@ -0,0 +1,212 @@
+package com.gov.payment.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈발 항목(heavy hitters) 스케치
+ * 고정 개수의 카운터로 상위 K 키와 추정 빈도를 유지 (추정치 - error 이상이 실제 빈도)
+ * 키 해시로 나눈 스트라이프마다 독립된 락과 Stream-Summary(같은 카운트끼리 묶은 버킷 연결 리스트)를 두어
+ * 기록 경로는 스트라이프 락 하나 + O(1) 증가/최소 교체로 끝나고, 상위 조회 시에만 스트라이프를 병합
+ * 한 키는 항상 같은 스트라이프에 기록되므로 병합 시 키 중복이 없다
+ */
+public class SpaceSavingTopK {
+
+    private static final int DEFAULT_STRIPES = 8;
+
+    private final Stripe[] stripes;
+
+    public SpaceSavingTopK(int capacity) {
+        this(capacity, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param capacity    전체 카운터 수 (스트라이프마다 capacity / stripeCount 개, 올림)
+     * @param stripeCount 스트라이프 수
+     */
+    public SpaceSavingTopK(int capacity, int stripeCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount는 1 이상이어야 합니다: " + stripeCount);
+        }
+        int stripeCapacity = (capacity + stripeCount - 1) / stripeCount;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    public void offer(String key) {
+        stripes[Math.floorMod(spread(key.hashCode()), stripes.length)].offer(key);
+    }
+
+    /**
+     * 상위 k개 항목 (추정 빈도 내림차순)
+     */
+    public List<Entry> top(int k) {
+        List<Entry> entries = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(entries);
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries.size() > k ? new ArrayList<>(entries.subList(0, k)) : entries;
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    public record Entry(String key, long count, long error) {
+    }
+
+    /**
+     * Stream-Summary - 버킷은 카운트 오름차순 이중 연결 리스트, 각 버킷은 같은 카운트의 슬롯 목록
+     * 증가는 다음 버킷으로 슬롯 이동, 교체는 최소(첫) 버킷의 슬롯 재사용으로 모두 O(1)
+     */
+    private static final class Stripe {
+
+        private final int capacity;
+        private final Map<String, Slot> slots;
+        private Bucket minBucket;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.slots = new HashMap<>(capacity * 2);
+        }
+
+        private synchronized void offer(String key) {
+            Slot slot = slots.get(key);
+            if (slot != null) {
+                increment(slot);
+                return;
+            }
+
+            if (slots.size() < capacity) {
+                slot = new Slot(key, 0);
+                slots.put(key, slot);
+                if (minBucket == null || minBucket.count != 1) {
+                    Bucket bucket = new Bucket(1);
+                    bucket.next = minBucket;
+                    if (minBucket != null) {
+                        minBucket.prev = bucket;
+                    }
+                    minBucket = bucket;
+                }
+                minBucket.attach(slot);
+                return;
+            }
+
+            // 가장 작은 카운터를 새 키로 교체 - 기존 최소값을 오차로 승계
+            Slot min = minBucket.head;
+            slots.remove(min.key);
+            min.key = key;
+            min.error = minBucket.count;
+            slots.put(key, min);
+            increment(min);
+        }
+
+        private void increment(Slot slot) {
+            Bucket current = slot.bucket;
+            long newCount = current.count + 1;
+            Bucket target = current.next;
+            if (target == null || target.count != newCount) {
+                target = new Bucket(newCount);
+                target.prev = current;
+                target.next = current.next;
+                if (current.next != null) {
+                    current.next.prev = target;
+                }
+                current.next = target;
+            }
+
+            current.detach(slot);
+            target.attach(slot);
+
+            if (current.head == null) {
+                unlink(current);
+            }
+        }
+
+        private void unlink(Bucket bucket) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                minBucket = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+
+        private synchronized void collect(List<Entry> entries) {
+            for (Bucket bucket = minBucket; bucket != null; bucket = bucket.next) {
+                for (Slot slot = bucket.head; slot != null; slot = slot.next) {
+                    entries.add(new Entry(slot.key, bucket.count, slot.error));
+                }
+            }
+        }
+
+        private synchronized void clear() {
+            slots.clear();
+            minBucket = null;
+        }
+    }
+
+    private static final class Bucket {
+        private final long count;
+        private Bucket prev;
+        private Bucket next;
+        private Slot head;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+
+        private void attach(Slot slot) {
+            slot.bucket = this;
+            slot.prev = null;
+            slot.next = head;
+            if (head != null) {
+                head.prev = slot;
+            }
+            head = slot;
+        }
+
+        private void detach(Slot slot) {
+            if (slot.prev != null) {
+                slot.prev.next = slot.next;
+            } else {
+                head = slot.next;
+            }
+            if (slot.next != null) {
+                slot.next.prev = slot.prev;
+            }
+            slot.prev = null;
+            slot.next = null;
+        }
+    }
+
+    private static final class Slot {
+        private String key;
+        private long error;
+        private Bucket bucket;
+        private Slot prev;
+        private Slot next;
+
+        private Slot(String key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+}
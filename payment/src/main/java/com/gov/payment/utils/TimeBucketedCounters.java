@@ -0,0 +1,105 @@
+package com.gov.payment.utils;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 버킷 링 버퍼 카운터
+ * 버킷(일/분 등)마다 고정 개수의 LongAdder 슬롯을 두고, 오래된 버킷은 재사용 시점에 초기화
+ * 기록은 O(1)이며 객체를 새로 만들지 않음 (버킷 전환 경계의 소량 오차는 허용)
+ */
+public class TimeBucketedCounters {
+
+    private final long bucketMillis;
+    private final long offsetMillis;
+    private final Bucket[] buckets;
+
+    /**
+     * @param bucketSize  버킷 크기 (예: 1일, 1분)
+     * @param bucketCount 보관할 버킷 수
+     * @param slotCount   버킷당 카운터 슬롯 수
+     * @param zoneOffset  버킷 경계 기준 시간대 (일 단위 버킷의 자정 기준)
+     */
+    public TimeBucketedCounters(Duration bucketSize, int bucketCount, int slotCount, ZoneOffset zoneOffset) {
+        this.bucketMillis = bucketSize.toMillis();
+        this.offsetMillis = zoneOffset.getTotalSeconds() * 1000L;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(slotCount);
+        }
+    }
+
+    public void increment(int slot) {
+        bucketFor(currentBucketId()).slots[slot].increment();
+    }
+
+    public void add(int slot, long value) {
+        bucketFor(currentBucketId()).slots[slot].add(value);
+    }
+
+    /**
+     * 현재 시각의 버킷 ID (일 단위 버킷이면 해당 시간대의 epoch day)
+     */
+    public long currentBucketId() {
+        return Math.floorDiv(System.currentTimeMillis() + offsetMillis, bucketMillis);
+    }
+
+    /**
+     * 특정 버킷의 슬롯 값 (보관 범위를 벗어났으면 0)
+     */
+    public long get(long bucketId, int slot) {
+        Bucket bucket = buckets[index(bucketId)];
+        return bucket.id.get() == bucketId ? bucket.slots[slot].sum() : 0;
+    }
+
+    /**
+     * 현재 버킷 포함 최근 n개 버킷의 슬롯 합계 (rolling window)
+     */
+    public long sumRecent(int bucketCount, int slot) {
+        long current = currentBucketId();
+        int count = Math.min(bucketCount, buckets.length);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += get(current - i, slot);
+        }
+        return sum;
+    }
+
+    public void reset() {
+        for (Bucket bucket : buckets) {
+            bucket.id.set(-1);
+            for (LongAdder slot : bucket.slots) {
+                slot.reset();
+            }
+        }
+    }
+
+    private Bucket bucketFor(long bucketId) {
+        Bucket bucket = buckets[index(bucketId)];
+        long owner = bucket.id.get();
+        if (owner < bucketId && bucket.id.compareAndSet(owner, bucketId)) {
+            for (LongAdder slot : bucket.slots) {
+                slot.reset();
+            }
+        }
+        return bucket;
+    }
+
+    private int index(long bucketId) {
+        return (int) Math.floorMod(bucketId, (long) buckets.length);
+    }
+
+    private static final class Bucket {
+        private final AtomicLong id = new AtomicLong(-1);
+        private final LongAdder[] slots;
+
+        private Bucket(int slotCount) {
+            this.slots = new LongAdder[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                slots[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -1,10 +1,35 @@
 package com.gov.settlement.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableScheduling
 public class SettlementConfig {
 
+    /**
+     * 정산 샤드 병렬 처리용 스레드 풀
+     * workers 미지정(0) 시 CPU 코어 수만큼 동시 처리
+     */
+    @Bean(name = "settlementShardExecutor")
+    public ThreadPoolTaskExecutor settlementShardExecutor(
+        @Value("${settlement.shard.workers:0}") int workers,
+        @Value("${settlement.shard.count:16}") int shardCount) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(shardCount);
+        executor.setThreadNamePrefix("settlement-shard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,6 +1,8 @@
 package com.gov.settlement.controller;
 
 import com.gov.settlement.dto.SettlementDto;
+import com.gov.settlement.dto.SettlementRunResult;
+import com.gov.settlement.service.DailySettlementRunner;
 import com.gov.settlement.service.SettlementService;
 import java.time.LocalDate;
 import java.util.List;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SettlementController {
 
     private SettlementService settlementService;
+    private DailySettlementRunner dailySettlementRunner;
 
     /**
      * 일일 정산 실행 (관리자용)
@@ -31,11 +34,14 @@ public class SettlementController {
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
 
         try {
-            settlementService.processDailySettlement(date);
+            SettlementRunResult result = dailySettlementRunner.run(date);
             return ResponseEntity.ok(Map.of(
-                "status", "success",
-                "message", "정산 처리가 완료되었습니다.",
-                "date", date.toString()
+                "status", result.hasFailures() ? "partial" : "success",
+                "message", result.hasFailures()
+                    ? "일부 샤드 정산이 실패했습니다. 재실행 시 실패한 샤드만 처리됩니다."
+                    : "정산 처리가 완료되었습니다.",
+                "date", date.toString(),
+                "summary", result.getSummary()
             ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -0,0 +1,32 @@
+package com.gov.settlement.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 샤드 단위 일일 정산 실행 결과
+ */
+public record SettlementRunResult(
+    LocalDate settlementDate,
+    int shardCount,
+    int skippedShards,
+    int succeededShards,
+    List<Integer> failedShards,
+    int createdSettlements,
+    long elapsedMillis
+) {
+
+    public SettlementRunResult {
+        failedShards = failedShards == null ? List.of() : List.copyOf(failedShards);
+    }
+
+    public boolean hasFailures() {
+        return !failedShards.isEmpty();
+    }
+
+    public String getSummary() {
+        return String.format("정산일=%s, 샤드=%d (완료 %d, 기처리 %d, 실패 %d), 생성=%d건, 소요=%dms",
+            settlementDate, shardCount, succeededShards, skippedShards, failedShards.size(),
+            createdSettlements, elapsedMillis);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,7 +16,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "settlements")
+@Table(name = "settlements",
+    uniqueConstraints = @UniqueConstraint(name = "uk_settlement_merchant_date",
+        columnNames = {"merchant_id", "settlement_date"}))
 @Getter
 @NoArgsConstructor
 public class Settlement {
@@ -0,0 +1,36 @@
+package com.gov.settlement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 일일 정산 가맹점 청크(INSERT ... SELECT 1회) 처리
+ */
+@Name("com.gov.settlement.SettlementChunk")
+@Label("Settlement Chunk")
+@Category({"Gov", "Settlement"})
+@Description("가맹점 청크 단위 정산 집계 처리 시간")
+@StackTrace(false)
+@Setter
+public class SettlementChunkEvent extends Event {
+
+    @Label("Settlement Date")
+    private String settlementDate;
+
+    @Label("First Merchant ID")
+    private String merchantId;
+
+    @Label("Last Merchant ID")
+    private String lastMerchantId;
+
+    @Label("Merchant Count")
+    private int merchantCount;
+
+    @Label("Created Settlements")
+    private int created;
+}
@@ -1,6 +1,7 @@
 package com.gov.settlement.scheduler;
 
-import com.gov.settlement.service.SettlementService;
+import com.gov.settlement.dto.SettlementRunResult;
+import com.gov.settlement.service.DailySettlementRunner;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
@@ -14,10 +15,11 @@ public class SettlementScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(SettlementScheduler.class);
 
-    private SettlementService settlementService;
+    private DailySettlementRunner dailySettlementRunner;
 
     /**
      * 매일 새벽 2시에 전날 정산 처리
+     * 모든 노드가 실행하며 샤드별 리스로 작업을 나누어 처리
      */
     @Scheduled(cron = "0 0 2 * * *")
     public void dailySettlement() {
@@ -25,8 +27,8 @@ public class SettlementScheduler {
 
         try {
             logger.info("자동 정산 시작: {}", yesterday);
-            settlementService.processDailySettlement(yesterday);
-            logger.info("자동 정산 완료: {}", yesterday);
+            SettlementRunResult result = dailySettlementRunner.run(yesterday);
+            logger.info("자동 정산 완료: {}", result.getSummary());
         } catch (Exception e) {
             logger.error("자동 정산 실패: {}", yesterday, e);
         }
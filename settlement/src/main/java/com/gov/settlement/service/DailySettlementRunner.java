@@ -0,0 +1,187 @@
+package com.gov.settlement.service;
+
+import com.gov.core.batch.BatchLeaseService;
+import com.gov.core.batch.JobLease;
+import com.gov.core.entity.BatchJobLog;
+import com.gov.core.entity.BatchJobLog.BatchJobType;
+import com.gov.core.service.BatchJobLogService;
+import com.gov.settlement.dto.SettlementRunResult;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가맹점 해시 샤드 단위 병렬 일일 정산
+ * 샤드마다 독립 트랜잭션으로 처리하고 BatchJobLog에 샤드별 체크포인트를 남겨
+ * 재실행 시 실패한 샤드만 다시 처리
+ * 워커는 샤드 리스를 하나씩 획득 -> 처리 -> 반납한 뒤 다음 샤드를 시도 (pull 방식)
+ * 한 노드가 모든 샤드를 미리 선점하지 않으므로 여러 노드가 동시에 실행하면 샤드가 노드 간에 분산됨
+ */
+@Service
+public class DailySettlementRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailySettlementRunner.class);
+
+    private static final String JOB_NAME_FORMAT = "daily-settlement:%s:shard-%d/%d";
+
+    // 작업명에 정산일과 샤드가 포함되어 있으므로 리스 회차는 고정값 사용
+    private static final String SHARD_LEASE_TICK = "run";
+    private static final Duration SHARD_LEASE_TTL = Duration.ofMinutes(30);
+
+    private final SettlementService settlementService;
+    private final BatchJobLogService batchJobLogService;
+    private final BatchLeaseService batchLeaseService;
+    private final Executor settlementShardExecutor;
+    private final int shardCount;
+    private final int workers;
+
+    public DailySettlementRunner(SettlementService settlementService,
+        BatchJobLogService batchJobLogService,
+        BatchLeaseService batchLeaseService,
+        @Qualifier("settlementShardExecutor") Executor settlementShardExecutor,
+        @Value("${settlement.shard.count:16}") int shardCount,
+        @Value("${settlement.shard.workers:0}") int workers) {
+        this.settlementService = settlementService;
+        this.batchJobLogService = batchJobLogService;
+        this.batchLeaseService = batchLeaseService;
+        this.settlementShardExecutor = settlementShardExecutor;
+        this.shardCount = Math.max(1, shardCount);
+        // settlementShardExecutor 풀 크기와 동일하게 산정
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.workers = Math.min(this.shardCount, poolSize);
+    }
+
+    public SettlementRunResult run(LocalDate settlementDate) {
+        long startTime = System.currentTimeMillis();
+
+        Map<Integer, List<String>> shards = partition(settlementService.findSettleableMerchantIds(settlementDate));
+
+        AtomicInteger nextShard = new AtomicInteger();
+        RunTally tally = new RunTally();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            futures.add(CompletableFuture.runAsync(
+                () -> pullShards(settlementDate, shards, nextShard, tally), settlementShardExecutor));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        List<Integer> failedShards = tally.failedShards.stream().sorted().toList();
+        SettlementRunResult result = new SettlementRunResult(settlementDate, shardCount, tally.skipped.get(),
+            tally.succeeded.get(), failedShards, tally.created.get(), System.currentTimeMillis() - startTime);
+
+        if (tally.claimedByOthers.get() > 0) {
+            logger.info("다른 노드가 처리 중인 정산 샤드: {} 개", tally.claimedByOthers.get());
+        }
+
+        if (result.hasFailures()) {
+            logger.warn("일일 정산 일부 샤드 실패: {}, 실패 샤드={}", result.getSummary(), failedShards);
+        } else {
+            logger.info("일일 정산 완료: {}", result.getSummary());
+        }
+        return result;
+    }
+
+    /**
+     * 워커 루프 - 다음 샤드 번호를 가져와 리스 획득에 성공한 샤드만 처리하고 즉시 반납
+     */
+    private void pullShards(LocalDate settlementDate, Map<Integer, List<String>> shards,
+        AtomicInteger nextShard, RunTally tally) {
+        int shard;
+        while ((shard = nextShard.getAndIncrement()) < shardCount) {
+            String jobName = jobName(settlementDate, shard);
+            if (batchJobLogService.isCompleted(jobName)) {
+                tally.skipped.incrementAndGet();
+                continue;
+            }
+
+            Optional<JobLease> lease = batchLeaseService.tryAcquire(jobName, SHARD_LEASE_TICK, SHARD_LEASE_TTL);
+            if (lease.isEmpty()) {
+                tally.claimedByOthers.incrementAndGet();
+                continue;
+            }
+
+            ShardOutcome outcome;
+            try {
+                outcome = runShard(settlementDate, shard, jobName, shards.getOrDefault(shard, List.of()));
+            } finally {
+                batchLeaseService.release(lease.get());
+            }
+
+            if (outcome.success()) {
+                tally.succeeded.incrementAndGet();
+                tally.created.addAndGet(outcome.created());
+            } else {
+                tally.failedShards.add(outcome.shard());
+            }
+        }
+    }
+
+    private ShardOutcome runShard(LocalDate settlementDate, int shard, String jobName, List<String> merchantIds) {
+        // 리스 획득 전 다른 노드가 이미 완료했을 수 있으므로 재확인 (복제 지연 없이 Primary 에서)
+        if (batchJobLogService.isCompletedOnPrimary(jobName)) {
+            return new ShardOutcome(shard, true, 0);
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("settlementDate", settlementDate.toString());
+        parameters.put("shard", shard);
+        parameters.put("shardCount", shardCount);
+        parameters.put("merchantCount", merchantIds.size());
+
+        BatchJobLog jobLog = batchJobLogService.startJob(BatchJobType.SETTLEMENT.name(), jobName, parameters);
+
+        try {
+            int created = merchantIds.isEmpty() ? 0 : settlementService.settleMerchants(settlementDate, merchantIds);
+            batchJobLogService.completeJob(jobLog.getLogId(), merchantIds.size(), merchantIds.size(), 0);
+
+            logger.debug("정산 샤드 완료: shard={}, 가맹점={}, 생성={}", shard, merchantIds.size(), created);
+            return new ShardOutcome(shard, true, created);
+
+        } catch (Exception e) {
+            logger.error("정산 샤드 실패: date={}, shard={}", settlementDate, shard, e);
+            batchJobLogService.failJob(jobLog.getLogId(), e.getMessage());
+            return new ShardOutcome(shard, false, 0);
+        }
+    }
+
+    private Map<Integer, List<String>> partition(List<String> merchantIds) {
+        Map<Integer, List<String>> shards = new HashMap<>();
+        for (String merchantId : merchantIds) {
+            shards.computeIfAbsent(Math.floorMod(merchantId.hashCode(), shardCount), k -> new ArrayList<>())
+                .add(merchantId);
+        }
+        return shards;
+    }
+
+    private String jobName(LocalDate settlementDate, int shard) {
+        return String.format(JOB_NAME_FORMAT, settlementDate, shard, shardCount);
+    }
+
+    private record ShardOutcome(int shard, boolean success, int created) {
+    }
+
+    /**
+     * 워커 간 공유 집계
+     */
+    private static class RunTally {
+
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger claimedByOthers = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger created = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Integer> failedShards = new ConcurrentLinkedQueue<>();
+    }
+}
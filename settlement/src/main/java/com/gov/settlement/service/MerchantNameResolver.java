@@ -0,0 +1,110 @@
+package com.gov.settlement.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가맹점 이름 일괄 조회 + 로컬 캐시
+ * 정산 목록 변환 시 건별 조회 대신 페이지 단위 IN 쿼리 한 번으로 이름을 해석
+ */
+@Component
+public class MerchantNameResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(MerchantNameResolver.class);
+
+    static final String UNKNOWN_MERCHANT = "Unknown Merchant";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final LoadingCache<String, String> nameCache;
+
+    public MerchantNameResolver(JdbcTemplate jdbcTemplate,
+        @Value("${settlement.merchant-name-cache.max-size:20000}") long maxSize,
+        @Value("${settlement.merchant-name-cache.refresh-after:5m}") Duration refreshAfter,
+        @Value("${settlement.merchant-name-cache.expire-after:30m}") Duration expireAfter,
+        @Value("${settlement.merchant-name-cache.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.nameCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .refreshAfterWrite(refreshAfter)
+            .expireAfterWrite(expireAfter)
+            .build(new CacheLoader<>() {
+                @Override
+                public String load(String merchantId) {
+                    return loadNames(List.of(merchantId)).getOrDefault(merchantId, UNKNOWN_MERCHANT);
+                }
+
+                @Override
+                public Map<String, String> loadAll(Set<? extends String> merchantIds) {
+                    Map<String, String> loaded = loadNames(merchantIds);
+                    // 존재하지 않는 가맹점도 캐싱하여 반복 조회 방지
+                    merchantIds.forEach(id -> loaded.putIfAbsent(id, UNKNOWN_MERCHANT));
+                    return loaded;
+                }
+            });
+    }
+
+    /**
+     * 가맹점 이름 일괄 해석 (캐시 미스 ID만 DB 조회)
+     */
+    public Map<String, String> resolve(Collection<String> merchantIds) {
+        Set<String> distinctIds = merchantIds.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return nameCache.getAll(distinctIds);
+        } catch (Exception e) {
+            logger.warn("가맹점 이름 조회 실패: {}", e.getMessage());
+            return distinctIds.stream()
+                .collect(Collectors.toMap(id -> id, id -> UNKNOWN_MERCHANT));
+        }
+    }
+
+    public void invalidate(String merchantId) {
+        nameCache.invalidate(merchantId);
+    }
+
+    public void invalidateAll() {
+        nameCache.invalidateAll();
+    }
+
+    private Map<String, String> loadNames(Collection<? extends String> merchantIds) {
+        Map<String, String> names = new HashMap<>();
+        List<String> ids = new ArrayList<>(merchantIds);
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            String sql = "SELECT merchant_id, merchant_name FROM merchants WHERE merchant_id IN (" + placeholders + ")";
+
+            RowCallbackHandler collector =
+                rs -> names.put(rs.getString("merchant_id"), rs.getString("merchant_name"));
+            jdbcTemplate.query(sql, collector, chunk.toArray());
+        }
+
+        logger.debug("가맹점 이름 일괄 조회: 요청={}, 조회={}", ids.size(), names.size());
+        return names;
+    }
+}
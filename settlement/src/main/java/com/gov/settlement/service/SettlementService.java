@@ -3,19 +3,22 @@ package com.gov.settlement.service;
 import com.gov.settlement.dto.SettlementDto;
 import com.gov.settlement.entity.Settlement;
 import com.gov.settlement.entity.SettlementStatus;
+import com.gov.settlement.jfr.SettlementChunkEvent;
 import com.gov.settlement.repository.SettlementRepository;
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -25,56 +28,107 @@ public class SettlementService {
 
     private static final Logger logger = LoggerFactory.getLogger(SettlementService.class);
 
-    private SettlementRepository settlementRepository;
-    private JdbcTemplate jdbcTemplate;
+    private static final String SETTLEMENT_ID_PREFIX = "STL_";
 
     /**
-     * 일일 정산 처리 (배치용)
+     * payment_date는 [day, day+1) 범위 조건으로 비교하여 인덱스 사용 가능하도록 유지
+     * settlement_id는 STL_{yyyyMMdd}_{merchantId} 로 결정적으로 생성
      */
-    public void processDailySettlement(LocalDate settlementDate) {
-        logger.info("일일 정산 처리 시작: {}", settlementDate);
-
-        // 이미 정산된 데이터가 있는지 확인
-        List<Settlement> existingSettlements = settlementRepository.findBySettlementDate(settlementDate);
-        if (!existingSettlements.isEmpty()) {
-            logger.warn("이미 정산된 날짜입니다: {}", settlementDate);
-            return;
-        }
+    private static final String DAILY_SETTLEMENT_INSERT_SQL = """
+        INSERT INTO settlements
+            (settlement_id, merchant_id, settlement_date, total_amount, transaction_count,
+             status, created_at, updated_at)
+        SELECT
+            CONCAT(?, p.merchant_id),
+            p.merchant_id,
+            ?,
+            SUM(p.amount),
+            COUNT(*),
+            'PENDING',
+            ?,
+            ?
+        FROM payments p
+        WHERE p.payment_date >= ?
+        AND p.payment_date < ?
+        AND p.status = 'COMPLETED'
+        AND p.merchant_id IN (:merchantIds)
+        AND NOT EXISTS (
+            SELECT 1 FROM settlements s
+            WHERE s.merchant_id = p.merchant_id
+            AND s.settlement_date = ?
+        )
+        GROUP BY p.merchant_id
+        """;
+
+    private static final String SETTLEABLE_MERCHANTS_SQL = """
+        SELECT DISTINCT p.merchant_id
+        FROM payments p
+        WHERE p.payment_date >= ?
+        AND p.payment_date < ?
+        AND p.status = 'COMPLETED'
+        """;
+
+    private static final int MERCHANT_IN_CLAUSE_SIZE = 1000;
+
+    private final SettlementRepository settlementRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MerchantNameResolver merchantNameResolver;
 
-        // 가맹점별 결제 데이터 집계
-        String sql = """
-            SELECT 
-                p.merchant_id,
-                COUNT(*) as transaction_count,
-                SUM(p.amount) as total_amount
-            FROM payments p 
-            WHERE DATE(p.payment_date) = ? 
-            AND p.status = 'COMPLETED'
-            GROUP BY p.merchant_id
-            """;
-
-        List<Map<String, Object>> results = jdbcTemplate.queryForList(sql, settlementDate);
-
-        // 정산 데이터 생성
-        for (Map<String, Object> result : results) {
-            String merchantId = (String) result.get("merchant_id");
-            Integer transactionCount = ((Number) result.get("transaction_count")).intValue();
-            BigDecimal totalAmount = (BigDecimal) result.get("total_amount");
-
-            Settlement settlement = new Settlement(
-                generateSettlementId(settlementDate, merchantId),
-                merchantId,
-                settlementDate,
-                totalAmount,
-                transactionCount
-            );
+    /**
+     * 정산 대상 가맹점 ID 조회 (해당 일자에 완료 결제가 있는 가맹점)
+     */
+    @Transactional(readOnly = true)
+    public List<String> findSettleableMerchantIds(LocalDate settlementDate) {
+        return jdbcTemplate.queryForList(SETTLEABLE_MERCHANTS_SQL, String.class,
+            settlementDate.atStartOfDay(),
+            settlementDate.plusDays(1).atStartOfDay());
+    }
 
-            settlementRepository.save(settlement);
-            logger.info("정산 데이터 생성: 가맹점={}, 금액={}, 건수={}",
-                merchantId, totalAmount, transactionCount);
+    /**
+     * 가맹점 묶음(샤드) 일일 정산 처리 - 샤드마다 독립 트랜잭션
+     * 가맹점별 집계를 INSERT ... SELECT로 생성하며,
+     * 이미 정산된 (merchant_id, settlement_date)는 건너뛰므로 재실행해도 안전
+     *
+     * @return 새로 생성된 정산 건수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int settleMerchants(LocalDate settlementDate, List<String> merchantIds) {
+        LocalDateTime now = LocalDateTime.now();
+        String idPrefix = SETTLEMENT_ID_PREFIX + settlementDate.format(DateTimeFormatter.BASIC_ISO_DATE) + "_";
+        int created = 0;
+
+        for (int from = 0; from < merchantIds.size(); from += MERCHANT_IN_CLAUSE_SIZE) {
+            List<String> chunk = merchantIds.subList(from, Math.min(from + MERCHANT_IN_CLAUSE_SIZE, merchantIds.size()));
+            String sql = DAILY_SETTLEMENT_INSERT_SQL.replace(":merchantIds",
+                String.join(",", Collections.nCopies(chunk.size(), "?")));
+
+            List<Object> args = new ArrayList<>(List.of(
+                idPrefix,
+                settlementDate,
+                now,
+                now,
+                settlementDate.atStartOfDay(),
+                settlementDate.plusDays(1).atStartOfDay()
+            ));
+            args.addAll(chunk);
+            args.add(settlementDate);
+
+            SettlementChunkEvent event = new SettlementChunkEvent();
+            event.begin();
+            int chunkCreated = jdbcTemplate.update(sql, args.toArray());
+            event.end();
+            if (event.shouldCommit()) {
+                event.setSettlementDate(settlementDate.toString());
+                event.setMerchantId(chunk.get(0));
+                event.setLastMerchantId(chunk.get(chunk.size() - 1));
+                event.setMerchantCount(chunk.size());
+                event.setCreated(chunkCreated);
+                event.commit();
+            }
+            created += chunkCreated;
         }
 
-        logger.info("일일 정산 처리 완료: {} 건", results.size());
+        return created;
     }
 
     /**
@@ -117,9 +171,7 @@ public class SettlementService {
     @Transactional(readOnly = true)
     public List<SettlementDto> getSettlementsByMerchant(String merchantId) {
         List<Settlement> settlements = settlementRepository.findByMerchantIdOrderBySettlementDateDesc(merchantId);
-        return settlements.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToDtos(settlements);
     }
 
     /**
@@ -128,9 +180,7 @@ public class SettlementService {
     @Transactional(readOnly = true)
     public List<SettlementDto> getSettlementsByDate(LocalDate settlementDate) {
         List<Settlement> settlements = settlementRepository.findBySettlementDate(settlementDate);
-        return settlements.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToDtos(settlements);
     }
 
     /**
@@ -139,27 +189,26 @@ public class SettlementService {
     @Transactional(readOnly = true)
     public List<SettlementDto> getPendingSettlements() {
         List<Settlement> settlements = settlementRepository.findByStatus(SettlementStatus.PENDING);
-        return settlements.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToDtos(settlements);
     }
 
     /**
-     * 정산 ID 생성
+     * Entity 목록 to DTO 변환 (가맹점 이름은 목록 단위로 일괄 해석)
      */
-    private String generateSettlementId(LocalDate date, String merchantId) {
-        String dateStr = date.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return String.format("STL_%s_%s_%s", dateStr, merchantId, uuid);
+    private List<SettlementDto> convertToDtos(List<Settlement> settlements) {
+        Map<String, String> merchantNames = merchantNameResolver.resolve(
+            settlements.stream().map(Settlement::getMerchantId).toList());
+
+        return settlements.stream()
+            .map(settlement -> convertToDto(settlement,
+                merchantNames.getOrDefault(settlement.getMerchantId(), MerchantNameResolver.UNKNOWN_MERCHANT)))
+            .collect(Collectors.toList());
     }
 
     /**
      * Entity to DTO 변환
      */
-    private SettlementDto convertToDto(Settlement settlement) {
-        // 가맹점 이름 조회 (간단히 구현)
-        String merchantName = getMerchantName(settlement.getMerchantId());
-
+    private SettlementDto convertToDto(Settlement settlement, String merchantName) {
         return new SettlementDto(
             settlement.getSettlementId(),
             settlement.getMerchantId(),
@@ -172,16 +221,4 @@ public class SettlementService {
             settlement.getUpdatedAt()
         );
     }
-
-    /**
-     * 가맹점 이름 조회 (Mock 구현)
-     */
-    private String getMerchantName(String merchantId) {
-        try {
-            String sql = "SELECT merchant_name FROM merchants WHERE merchant_id = ?";
-            return jdbcTemplate.queryForObject(sql, String.class, merchantId);
-        } catch (Exception e) {
-            return "Unknown Merchant";
-        }
-    }
 }